@@ -0,0 +1,77 @@
+package likelion.kitalk.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import likelion.kitalk.global.datasource.ReadWriteRoutingDataSource;
+import likelion.kitalk.global.datasource.ReplicaNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// 읽기/쓰기 분리 DataSource 설정
+// - spring.datasource.* : 프라이머리 (주문 저장 등 쓰기, Flyway)
+// - kitalk.datasource.replica.urls : 읽기 전용 레플리카 (쉼표 구분, 비어 있으면 모든 요청이 프라이머리)
+@Configuration
+@Slf4j
+public class DataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("kitalk-primary");
+    return dataSource;
+  }
+
+  @Bean
+  public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+      HikariDataSource primaryDataSource,
+      DataSourceProperties properties,
+      @Value("${kitalk.datasource.replica.urls:}") String replicaUrls,
+      @Value("${kitalk.datasource.replica.username:}") String username,
+      @Value("${kitalk.datasource.replica.password:}") String password,
+      @Value("${kitalk.datasource.replica.pool-size:10}") int poolSize) {
+
+    List<ReplicaNode> replicas = new ArrayList<>();
+    List<String> urls = Arrays.stream(replicaUrls.split(","))
+        .map(String::trim)
+        .filter(url -> !url.isEmpty())
+        .toList();
+
+    for (int i = 0; i < urls.size(); i++) {
+      HikariDataSource replica = new HikariDataSource();
+      replica.setPoolName("kitalk-replica-" + (i + 1));
+      replica.setJdbcUrl(urls.get(i));
+      // 레플리카 계정을 따로 지정하지 않으면 프라이머리 계정 사용
+      replica.setUsername(username.isBlank() ? properties.determineUsername() : username);
+      replica.setPassword(username.isBlank() ? properties.determinePassword() : password);
+      replica.setDriverClassName(properties.determineDriverClassName());
+      replica.setMaximumPoolSize(poolSize);
+      replica.setReadOnly(true);
+      // 레플리카가 내려가 있어도 애플리케이션 기동은 계속 (ReplicaLagMonitor가 상태 관리)
+      replica.setInitializationFailTimeout(-1);
+
+      replicas.add(new ReplicaNode(replica.getPoolName(), replica));
+    }
+
+    log.info("읽기/쓰기 분리 DataSource 설정 완료 - 레플리카 수: {}", replicas.size());
+    return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+  }
+
+  // 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 얻도록 지연 프록시로 감쌈
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+  }
+}
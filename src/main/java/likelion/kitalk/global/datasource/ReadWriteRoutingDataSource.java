@@ -0,0 +1,67 @@
+package likelion.kitalk.global.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 읽기 전용 트랜잭션은 레플리카로, 나머지(쓰기/트랜잭션 밖 조회)는 프라이머리로 보내는 DataSource
+// - 복제 지연이 허용치를 넘었거나 연결에 실패한 레플리카는 건너뜀
+// - 쓸 수 있는 레플리카가 없으면 프라이머리로 처리 (읽기 요청이 실패하지 않도록)
+// - 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 판단해야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+  private final DataSource primary;
+  private final List<ReplicaNode> replicas;
+  private final AtomicInteger cursor = new AtomicInteger();
+
+  public ReadWriteRoutingDataSource(DataSource primary, List<ReplicaNode> replicas) {
+    this.primary = primary;
+    this.replicas = List.copyOf(replicas);
+  }
+
+  public List<ReplicaNode> getReplicas() {
+    return replicas;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!routesToReplica()) {
+      return primary.getConnection();
+    }
+
+    // 라운드로빈으로 정상 레플리카 선택
+    int start = Math.floorMod(cursor.getAndIncrement(), replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      ReplicaNode replica = replicas.get((start + i) % replicas.size());
+      if (!replica.isAvailable()) {
+        continue;
+      }
+      try {
+        return replica.getDataSource().getConnection();
+      } catch (SQLException e) {
+        replica.markDown("연결 실패: " + e.getMessage());
+      }
+    }
+
+    log.debug("사용 가능한 레플리카 없음 - 프라이머리로 읽기 처리");
+    return primary.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    // 계정 지정 연결은 라우팅 없이 프라이머리 사용
+    return primary.getConnection(username, password);
+  }
+
+  private boolean routesToReplica() {
+    return !replicas.isEmpty()
+        && TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+}
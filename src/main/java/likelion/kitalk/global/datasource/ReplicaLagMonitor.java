@@ -0,0 +1,88 @@
+package likelion.kitalk.global.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 레플리카 복제 지연 확인 → 허용치를 넘거나 복제가 멈춘 레플리카는 읽기 라우팅에서 제외
+// - MySQL 8.0.22+ : SHOW REPLICA STATUS / Seconds_Behind_Source
+// - 그 이전 MySQL, MariaDB : SHOW SLAVE STATUS / Seconds_Behind_Master
+// - 복제 설정이 없는 인스턴스(로컬 테스트용 단독 MySQL)는 지연 0으로 간주
+// - 레플리카 계정에 REPLICATION CLIENT 권한 필요
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReplicaLagMonitor {
+
+  private final ReadWriteRoutingDataSource routingDataSource;
+
+  @Value("${kitalk.datasource.replica.max-lag-seconds:5}")
+  private long maxLagSeconds;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    check();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${kitalk.datasource.replica.health-check-interval-ms:5000}",
+      initialDelayString = "${kitalk.datasource.replica.health-check-interval-ms:5000}")
+  public void check() {
+    for (ReplicaNode replica : routingDataSource.getReplicas()) {
+      try (Connection connection = replica.getDataSource().getConnection()) {
+        LagStatus status = lagOf(connection);
+
+        if (!status.replicating()) {
+          replica.markUp(0L);
+        } else if (status.lagSeconds() == null) {
+          replica.markDown("복제 중단 (지연 값 없음)");
+        } else if (status.lagSeconds() > maxLagSeconds) {
+          replica.markDown("복제 지연 " + status.lagSeconds() + "s > " + maxLagSeconds + "s");
+        } else {
+          replica.markUp(status.lagSeconds());
+        }
+
+      } catch (Exception e) {
+        replica.markDown("상태 확인 실패: " + e.getMessage());
+      }
+    }
+  }
+
+  private LagStatus lagOf(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+        return readLag(rs);
+      } catch (SQLException e) {
+        // SHOW REPLICA STATUS를 모르는 구버전
+        try (ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+          return readLag(rs);
+        }
+      }
+    }
+  }
+
+  private LagStatus readLag(ResultSet rs) throws SQLException {
+    if (!rs.next()) {
+      return new LagStatus(false, null);
+    }
+
+    long lag;
+    try {
+      lag = rs.getLong("Seconds_Behind_Source");
+    } catch (SQLException e) {
+      lag = rs.getLong("Seconds_Behind_Master");
+    }
+    return new LagStatus(true, rs.wasNull() ? null : lag);
+  }
+
+  private record LagStatus(boolean replicating, Long lagSeconds) {
+  }
+}
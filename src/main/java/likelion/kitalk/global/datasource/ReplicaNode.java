@@ -0,0 +1,52 @@
+package likelion.kitalk.global.datasource;
+
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+// 레플리카 하나의 커넥션 풀과 상태 (ReplicaLagMonitor가 주기적으로 갱신)
+@Slf4j
+public class ReplicaNode {
+
+  private final String name;
+  private final DataSource dataSource;
+
+  // 첫 지연 확인 전에는 사용하지 않음
+  private volatile boolean available = false;
+  private volatile Long lagSeconds;
+
+  public ReplicaNode(String name, DataSource dataSource) {
+    this.name = name;
+    this.dataSource = dataSource;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public DataSource getDataSource() {
+    return dataSource;
+  }
+
+  public boolean isAvailable() {
+    return available;
+  }
+
+  public Long getLagSeconds() {
+    return lagSeconds;
+  }
+
+  void markUp(Long lagSeconds) {
+    this.lagSeconds = lagSeconds;
+    if (!available) {
+      log.info("레플리카 읽기 라우팅 재개 - replica: {}, lag: {}s", name, lagSeconds);
+    }
+    available = true;
+  }
+
+  void markDown(String reason) {
+    if (available) {
+      log.warn("레플리카 읽기 라우팅 제외 - replica: {}, reason: {}", name, reason);
+    }
+    available = false;
+  }
+}
@@ -12,7 +12,13 @@ public enum GlobalErrorCode implements BaseErrorCode {
 
   INVALID_INPUT_VALUE("G001", "유효하지 않은 입력입니다.", HttpStatus.BAD_REQUEST),
   RESOURCE_NOT_FOUND("G002", "요청한 리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
-  INTERNAL_SERVER_ERROR("G003", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+  INTERNAL_SERVER_ERROR("G003", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+
+  // Idempotency-Key 관련 에러
+  INVALID_IDEMPOTENCY_KEY("G004", "유효하지 않은 Idempotency-Key입니다.", HttpStatus.BAD_REQUEST),
+  IDEMPOTENCY_REQUEST_IN_PROGRESS("G005", "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
+  IDEMPOTENCY_KEY_REUSED("G006", "다른 요청에 이미 사용된 Idempotency-Key입니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+  IDEMPOTENCY_REQUEST_TOO_LARGE("G007", "요청 본문이 너무 큽니다.", HttpStatus.PAYLOAD_TOO_LARGE);
 
   private final String code;
   private final String message;
@@ -0,0 +1,290 @@
+package likelion.kitalk.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import likelion.kitalk.global.exception.GlobalErrorCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+// Idempotency-Key 헤더가 있는 변경 요청(장바구니 담기, 주문 완료 등)의 첫 응답을 Redis에 저장하고 재시도에 그대로 재전송
+// - 키는 경로(세션 ID 포함)별로 구분, 같은 키에 다른 본문이 오면 422
+// - 첫 요청이 처리 중일 때 같은 키가 오면 409 (동시 재시도가 두 번 실행되지 않음)
+// - 5xx 응답이나 예외는 저장하지 않고 선점을 풀어 같은 키로 다시 시도 가능
+// - Redis 장애 시에는 헤더 없이 온 요청처럼 그대로 처리
+// - 본문은 지문 계산을 위해 메모리에 미리 읽으므로 MAX_BODY_BYTES를 넘으면 413
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  private static final String HEADER = "Idempotency-Key";
+  private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+  private static final int MAX_KEY_LENGTH = 128;
+  // 장바구니 담기/일괄 변경/주문 완료 본문은 수 KB 이내
+  private static final int MAX_BODY_BYTES = 64 * 1024;
+
+  private final IdempotencyStore idempotencyStore;
+  private final ObjectMapper objectMapper;
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  // Idempotency-Key를 적용할 POST 경로 (Ant 패턴, 쉼표 구분)
+  @Value("${kitalk.idempotency.paths:/api/touch/cart/*/add,/api/touch/cart/*/batch,/api/touch/phone/*/complete}")
+  private String[] paths;
+
+  // 첫 응답 보관 시간 (세션 TTL과 같게)
+  @Value("${kitalk.idempotency.ttl-seconds:7200}")
+  private long ttlSeconds;
+
+  // 처리 중 선점 유지 시간 (처리 도중 노드가 죽어도 이 시간이 지나면 다시 시도 가능)
+  @Value("${kitalk.idempotency.lock-seconds:30}")
+  private long lockSeconds;
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+    String idempotencyKey = request.getHeader(HEADER).trim();
+    if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+      sendErrorResponse(response, GlobalErrorCode.INVALID_IDEMPOTENCY_KEY);
+      return;
+    }
+
+    byte[] body = readBody(request);
+    if (body == null) {
+      log.warn("Idempotency-Key 요청 본문이 너무 큼 - uri: {}", request.getRequestURI());
+      sendErrorResponse(response, GlobalErrorCode.IDEMPOTENCY_REQUEST_TOO_LARGE);
+      return;
+    }
+
+    CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+    String requestKey = request.getRequestURI() + ":" + idempotencyKey;
+    String fingerprint = fingerprintOf(request, body);
+
+    IdempotencyStore.Entry existing;
+    try {
+      existing = idempotencyStore.reserve(requestKey, fingerprint, Duration.ofSeconds(lockSeconds));
+    } catch (Exception e) {
+      log.warn("Idempotency-Key 선점 실패 - 키 없이 처리, uri: {}", request.getRequestURI(), e);
+      filterChain.doFilter(cachedRequest, response);
+      return;
+    }
+
+    if (existing != null) {
+      handleRepeat(request, response, existing, fingerprint);
+      return;
+    }
+
+    ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+    try {
+      filterChain.doFilter(cachedRequest, cachedResponse);
+    } catch (IOException | ServletException | RuntimeException e) {
+      release(requestKey);
+      throw e;
+    }
+
+    int status = cachedResponse.getStatus();
+    if (status >= 500) {
+      release(requestKey);
+    } else {
+      try {
+        idempotencyStore.complete(requestKey, status, cachedResponse.getContentType(),
+            Base64.getEncoder().encodeToString(cachedResponse.getContentAsByteArray()),
+            Duration.ofSeconds(ttlSeconds));
+      } catch (Exception e) {
+        log.warn("Idempotency-Key 응답 저장 실패 - uri: {}", request.getRequestURI(), e);
+        release(requestKey);
+      }
+    }
+    cachedResponse.copyBodyToResponse();
+  }
+
+  // 헤더가 있는 대상 경로의 POST만 처리
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(HEADER) == null) {
+      return true;
+    }
+
+    String path = request.getRequestURI();
+    for (String pattern : paths) {
+      if (pathMatcher.match(pattern.trim(), path)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // 같은 키의 반복 요청: 다른 요청이면 422, 처리 중이면 409, 끝났으면 저장된 응답 그대로
+  private void handleRepeat(HttpServletRequest request, HttpServletResponse response,
+      IdempotencyStore.Entry existing, String fingerprint) throws IOException {
+    if (!existing.fingerprint().equals(fingerprint)) {
+      log.warn("Idempotency-Key 재사용 - uri: {}", request.getRequestURI());
+      sendErrorResponse(response, GlobalErrorCode.IDEMPOTENCY_KEY_REUSED);
+      return;
+    }
+
+    if (existing.pending()) {
+      log.info("Idempotency-Key 처리 중 요청 반복 - uri: {}", request.getRequestURI());
+      sendErrorResponse(response, GlobalErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+      return;
+    }
+
+    log.info("Idempotency-Key 저장된 응답 재전송 - uri: {}, status: {}", request.getRequestURI(), existing.status());
+    byte[] body = Base64.getDecoder().decode(existing.body());
+    response.setStatus(existing.status());
+    if (!existing.contentType().isEmpty()) {
+      response.setContentType(existing.contentType());
+    }
+    response.setHeader(REPLAYED_HEADER, "true");
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  private void release(String requestKey) {
+    try {
+      idempotencyStore.release(requestKey);
+    } catch (Exception e) {
+      log.warn("Idempotency-Key 선점 해제 실패 - 선점 시간이 지나면 자동 해제", e);
+    }
+  }
+
+  // 본문을 최대 MAX_BODY_BYTES까지 읽음 (넘으면 null, Content-Length가 넘으면 읽지 않음)
+  private byte[] readBody(HttpServletRequest request) throws IOException {
+    if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+      return null;
+    }
+
+    byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+    return body.length > MAX_BODY_BYTES ? null : body;
+  }
+
+  // 메서드 + 경로 + 본문의 SHA-256
+  private String fingerprintOf(HttpServletRequest request, byte[] body) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+      digest.update(body);
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 사용 불가", e);
+    }
+  }
+
+  // 컨트롤러 에러 응답과 같은 형식
+  private void sendErrorResponse(HttpServletResponse response, GlobalErrorCode errorCode) throws IOException {
+    Map<String, Object> errorResponse = new HashMap<>();
+    errorResponse.put("success", false);
+    errorResponse.put("message", errorCode.getMessage());
+    errorResponse.put("status", errorCode.getStatus().value());
+    errorResponse.put("timestamp", System.currentTimeMillis());
+
+    response.setStatus(errorCode.getStatus().value());
+    response.setContentType("application/json;charset=UTF-8");
+    response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+  }
+
+  // 지문 계산을 위해 미리 읽어 둔 본문을 컨트롤러에 다시 제공
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      return new CachedBodyInputStream(body);
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      String encoding = getCharacterEncoding();
+      return new BufferedReader(new InputStreamReader(getInputStream(),
+          encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+    }
+  }
+
+  // 메모리에 있는 본문을 읽는 스트림 (본문이 이미 다 있으므로 비동기 리스너에는 바로 알림)
+  private static final class CachedBodyInputStream extends ServletInputStream {
+
+    private final byte[] body;
+    private int position;
+
+    CachedBodyInputStream(byte[] body) {
+      this.body = body;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return position >= body.length;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+      try {
+        if (!isFinished()) {
+          readListener.onDataAvailable();
+        }
+        if (isFinished()) {
+          readListener.onAllDataRead();
+        }
+      } catch (IOException e) {
+        readListener.onError(e);
+      }
+    }
+
+    @Override
+    public int read() {
+      return isFinished() ? -1 : body[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (isFinished()) {
+        return -1;
+      }
+
+      int count = Math.min(length, body.length - position);
+      System.arraycopy(body, position, buffer, offset, count);
+      position += count;
+      return count;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package likelion.kitalk.global.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// Idempotency-Key 응답 저장소 (Redis 해시)
+// - idempotency:{경로}:{키} → { "fingerprint": 요청 지문, "status", "contentType", "body": Base64 응답 본문 }
+// - 처음 요청이 fingerprint만 넣어 선점(짧은 TTL) → 처리 후 응답을 채우고 TTL 연장
+// - 선점 상태(status 없음)에서 같은 키가 또 오면 처리 중으로 판단
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+  private static final String KEY_PREFIX = "idempotency:";
+
+  // KEYS[1]=키, ARGV[1]=요청 지문, ARGV[2]=선점 TTL(ms)
+  // → 이미 있으면 { 지문, 상태, contentType, 본문 } (처리 중이면 상태 ""), 선점했으면 빈 목록
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+      local existing = redis.call('HMGET', KEYS[1], 'fingerprint', 'status', 'contentType', 'body')
+      if existing[1] then
+        return { existing[1], existing[2] or '', existing[3] or '', existing[4] or '' }
+      end
+      redis.call('HSET', KEYS[1], 'fingerprint', ARGV[1])
+      redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[2]))
+      return {}
+      """, List.class);
+
+  // KEYS[1]=키, ARGV[1]=상태, ARGV[2]=contentType, ARGV[3]=본문, ARGV[4]=보관 TTL(초)
+  private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('HSET', KEYS[1], 'status', ARGV[1], 'contentType', ARGV[2], 'body', ARGV[3])
+      redis.call('EXPIRE', KEYS[1], tonumber(ARGV[4]))
+      return 1
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  // 키 선점 (이미 있으면 저장된 기록 반환, 선점했으면 null)
+  public Entry reserve(String requestKey, String fingerprint, Duration lockTtl) {
+    List<?> raw = redisTemplate.execute(RESERVE_SCRIPT, List.of(keyOf(requestKey)),
+        fingerprint, String.valueOf(lockTtl.toMillis()));
+    if (raw == null || raw.isEmpty()) {
+      return null;
+    }
+
+    String status = String.valueOf(raw.get(1));
+    return new Entry(String.valueOf(raw.get(0)),
+        status.isEmpty() ? null : Integer.valueOf(status),
+        String.valueOf(raw.get(2)),
+        String.valueOf(raw.get(3)));
+  }
+
+  // 처리 결과 저장
+  public void complete(String requestKey, int status, String contentType, String body, Duration ttl) {
+    redisTemplate.execute(COMPLETE_SCRIPT, List.of(keyOf(requestKey)),
+        String.valueOf(status), contentType != null ? contentType : "", body, String.valueOf(ttl.toSeconds()));
+  }
+
+  // 선점 해제 (처리 실패 → 같은 키로 다시 시도 가능)
+  public void release(String requestKey) {
+    redisTemplate.delete(keyOf(requestKey));
+  }
+
+  private String keyOf(String requestKey) {
+    return KEY_PREFIX + requestKey;
+  }
+
+  // status가 null이면 아직 처리 중, body는 Base64 응답 본문
+  public record Entry(String fingerprint, Integer status, String contentType, String body) {
+
+    public boolean pending() {
+      return status == null;
+    }
+  }
+}
@@ -5,31 +5,33 @@ import likelion.kitalk.global.exception.CustomException;
 import likelion.kitalk.phone.dto.response.PhoneOrdersResponse;
 import likelion.kitalk.phone.dto.response.TopMenusResponse;
 import likelion.kitalk.phone.exception.PhoneOrderErrorCode;
-import likelion.kitalk.touch.entity.Menu;
+import likelion.kitalk.touch.catalog.MenuCatalog;
+import likelion.kitalk.touch.catalog.MenuCatalogHolder;
 import likelion.kitalk.touch.entity.Order;
 import likelion.kitalk.touch.entity.OrderItems;
-import likelion.kitalk.touch.repository.MenuRepository;
 import likelion.kitalk.touch.repository.OrderItemsRepository;
 import likelion.kitalk.touch.repository.OrderItemsRepository.TopMenuRow;
 import likelion.kitalk.touch.repository.OrderRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class PhoneOrderService {
 
   private final OrderRepository orderRepository;
   private final OrderItemsRepository orderItemsRepository;
-  private final MenuRepository menuRepository;
+  private final MenuCatalogHolder menuCatalogHolder;
 
   public PhoneOrderService(OrderRepository orderRepository, OrderItemsRepository orderItemsRepository,
-      MenuRepository menuRepository) {
+      MenuCatalogHolder menuCatalogHolder) {
     this.orderRepository = orderRepository;
     this.orderItemsRepository = orderItemsRepository;
-    this.menuRepository = menuRepository;
+    this.menuCatalogHolder = menuCatalogHolder;
   }
 
   public PhoneOrdersResponse getRecentOrders(String phone) {
@@ -51,13 +53,13 @@ public class PhoneOrderService {
         .collect(Collectors.groupingBy(
             OrderItems::getOrderId, LinkedHashMap::new, Collectors.toList()));
 
+    MenuCatalog catalog = menuCatalogHolder.current();
+
     var blocks = new ArrayList<PhoneOrdersResponse.OrderBlock>();
     for (Order o : orders) {
       var lines = grouped.getOrDefault(o.getId(), List.of()).stream()
           .map(oi -> {
-            String profile = menuRepository.findById(oi.getMenuId())
-                .map(m -> m.getProfile())
-                .orElse(null); // profile 가져오기
+            String profile = profileOf(catalog, oi.getMenuId()); // profile 가져오기
             return new PhoneOrdersResponse.OrderLine(
                 oi.getMenuId(),
                 oi.getMenuName(),
@@ -82,21 +84,27 @@ public class PhoneOrderService {
       throw new CustomException(PhoneOrderErrorCode.PHONE_ORDER_NOT_FOUND);
     }
 
-    List<Long> menuIds = rows.stream().map(TopMenuRow::getMenuId).distinct().toList();
-
-    Map<Long, String> profileByMenu = new HashMap<>();
-    menuRepository.findAllById(menuIds).forEach(m -> profileByMenu.put(m.getId(), m.getProfile()));
+    MenuCatalog catalog = menuCatalogHolder.current();
 
     var list = rows.stream()
         .map(r -> new TopMenusResponse.MenuStat(
             r.getMenuId(),
             r.getMenuName(),
             r.getTemp(),
-            profileByMenu.get(r.getMenuId()),
+            profileOf(catalog, r.getMenuId()),
             r.getOrderCount()
         ))
         .toList();
 
     return new TopMenusResponse(list);
   }
+
+  // 비활성 메뉴도 과거 주문 표시를 위해 profile 조회
+  private String profileOf(MenuCatalog catalog, Long menuId) {
+    if (menuId == null) {
+      return null;
+    }
+    MenuCatalog.Entry entry = catalog.find(menuId);
+    return entry != null ? entry.profile() : null;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package likelion.kitalk.touch.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+import likelion.kitalk.touch.catalog.MenuCatalog;
+import likelion.kitalk.touch.catalog.MenuCatalogHolder;
+import likelion.kitalk.touch.service.MenuService;
+import likelion.kitalk.touch.service.MenuTrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 메뉴 조회 응답 본문을 카탈로그 버전별로 한 번만 직렬화/압축해 두는 캐시
+// - 카탈로그 버전이나 인기 메뉴 구성(popular 필드)이 바뀌면 통째로 버림
+// - ETag는 카탈로그 버전 + 인기 메뉴 구성 해시 (둘 다 노드/재시작과 무관 → 같은 본문이면 어느 노드에서나 같은 ETag)
+// - 키: 카테고리 (유효하지 않은 카테고리는 예외가 나므로 저장되지 않음)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuResponseCache {
+
+  // 이보다 작은 본문은 압축 이득이 없으므로 gzip 변형을 만들지 않음
+  private static final int GZIP_MIN_BYTES = 1024;
+
+  private static final String MENU_LIST_RESOURCE = "menu-list";
+  private static final String CATEGORY_LIST_RESOURCE = "menu-categories";
+
+  private static final String CATEGORY_LIST_KEY = "\u0000categories";
+  private static final String ALL_MENUS_KEY = "";
+
+  private final MenuService menuService;
+  private final MenuCatalogHolder menuCatalogHolder;
+  private final MenuTrendingService menuTrendingService;
+  private final ObjectMapper objectMapper;
+
+  private volatile Generation generation = new Generation(0L, 0L, new ConcurrentHashMap<>());
+
+  // 메뉴 리스트 응답 본문
+  public RenderedBody menuList(String category) {
+    String key = category == null || category.trim().isEmpty() ? ALL_MENUS_KEY : category;
+    return get(key, MENU_LIST_RESOURCE,
+        catalog -> menuService.getMenuList(catalog, category));
+  }
+
+  // 카테고리 목록 응답 본문
+  public RenderedBody categoryList() {
+    return get(CATEGORY_LIST_KEY, CATEGORY_LIST_RESOURCE, menuService::getCategoryList);
+  }
+
+  // 본문을 만들지 않고 현재 버전의 ETag만 계산 (조건부 요청 처리용)
+  public String menuListETag() {
+    return eTagOf(MENU_LIST_RESOURCE, menuCatalogHolder.current().getVersion(),
+        menuTrendingService.popularSignature());
+  }
+
+  public String categoryListETag() {
+    return eTagOf(CATEGORY_LIST_RESOURCE, menuCatalogHolder.current().getVersion(),
+        menuTrendingService.popularSignature());
+  }
+
+  private RenderedBody get(String key, String resource, Function<MenuCatalog, Object> loader) {
+    MenuCatalog catalog = menuCatalogHolder.current();
+    Generation current = generationOf(catalog.getVersion(), menuTrendingService.popularSignature());
+
+    RenderedBody cached = current.bodies().get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    // 같은 스냅샷으로 조회한 결과만 같은 세대에 저장 (ETag와 본문 버전 일치)
+    return current.bodies().computeIfAbsent(key,
+        k -> render(current, resource, loader.apply(catalog)));
+  }
+
+  private Generation generationOf(long version, long trending) {
+    Generation current = generation;
+    if (current.matches(version, trending)) {
+      return current;
+    }
+
+    synchronized (this) {
+      if (!generation.matches(version, trending)) {
+        log.info("메뉴 응답 캐시 교체 - version: {} → {}, trending: {} → {}",
+            generation.version(), version, generation.trending(), trending);
+        generation = new Generation(version, trending, new ConcurrentHashMap<>());
+      }
+      return generation;
+    }
+  }
+
+  private RenderedBody render(Generation target, String resource, Object body) {
+    long version = target.version();
+    try {
+      byte[] identity = objectMapper.writeValueAsBytes(body);
+      byte[] gzip = identity.length >= GZIP_MIN_BYTES ? gzip(identity) : null;
+
+      log.debug("메뉴 응답 직렬화 완료 - resource: {}, version: {}, bytes: {}, gzip: {}",
+          resource, version, identity.length, gzip != null ? gzip.length : 0);
+
+      return new RenderedBody(eTagOf(resource, version, target.trending()), identity, gzip);
+
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("메뉴 응답 직렬화 실패", e);
+    }
+  }
+
+  private String eTagOf(String resource, long version, long trending) {
+    return "\"" + resource + "-v" + version + "-t" + Long.toHexString(trending) + "\"";
+  }
+
+  private byte[] gzip(byte[] source) {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(source.length / 4);
+    try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+      out.write(source);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return buffer.toByteArray();
+  }
+
+  private record Generation(long version, long trending, Map<String, RenderedBody> bodies) {
+
+    boolean matches(long version, long trending) {
+      return this.version == version && this.trending == trending;
+    }
+  }
+
+  public record RenderedBody(String eTag, byte[] identity, byte[] gzip) {
+
+    public boolean hasGzip() {
+      return gzip != null;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package likelion.kitalk.touch.cart;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 세션 장바구니 (담은 순서대로의 메뉴 줄 + 버전, 시각은 epoch millis)
+public record Cart(long version, List<CartLine> lines, long createdAt, long updatedAt) {
+
+  public Cart {
+    lines = Collections.unmodifiableList(lines);
+  }
+
+  public static Cart empty(long now) {
+    return new Cart(0L, List.of(), now, now);
+  }
+
+  public boolean isEmpty() {
+    return lines.isEmpty();
+  }
+
+  public int size() {
+    return lines.size();
+  }
+
+  // 메뉴별 수량 (담은 순서 유지)
+  public Map<Long, Integer> quantities() {
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    for (CartLine line : lines) {
+      quantities.put(line.menuId(), line.quantity());
+    }
+    return quantities;
+  }
+}
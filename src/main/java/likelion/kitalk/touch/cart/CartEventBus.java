@@ -0,0 +1,58 @@
+package likelion.kitalk.touch.cart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+// 장바구니 변경을 Redis pub/sub으로 모든 앱 노드에 전파 (SSE 스트림용)
+// - 세션별 채널 kiosk_session_events:{sessionId} → 스트림을 열어 둔 노드만 구독, 구독자가 없으면 PUBLISH만 하고 끝
+// - 메시지는 변경 후 장바구니 응답 JSON 그대로 → 구독 노드는 Redis를 다시 읽지 않고 바로 전달
+// - 발행 실패는 장바구니 변경 자체를 막지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CartEventBus {
+
+  private static final String CHANNEL_PREFIX = "kiosk_session_events:";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ObjectMapper objectMapper;
+
+  // 변경 후 장바구니 응답 발행
+  public void publish(String sessionId, Map<String, Object> cartResponse) {
+    try {
+      redisTemplate.convertAndSend(channelOf(sessionId), objectMapper.writeValueAsString(cartResponse));
+    } catch (Exception e) {
+      log.warn("장바구니 변경 이벤트 발행 실패 - sessionId: {}", sessionId, e);
+    }
+  }
+
+  // 세션 채널 구독 (해제할 때 돌려받은 리스너를 unsubscribe에 넘김)
+  public MessageListener subscribe(String sessionId, Consumer<String> listener) {
+    MessageListener messageListener = (message, pattern) ->
+        listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+    redisMessageListenerContainer.addMessageListener(messageListener, new ChannelTopic(channelOf(sessionId)));
+
+    log.debug("장바구니 변경 채널 구독 - sessionId: {}", sessionId);
+    return messageListener;
+  }
+
+  public void unsubscribe(String sessionId, MessageListener messageListener) {
+    redisMessageListenerContainer.removeMessageListener(messageListener, new ChannelTopic(channelOf(sessionId)));
+
+    log.debug("장바구니 변경 채널 구독 해제 - sessionId: {}", sessionId);
+  }
+
+  private String channelOf(String sessionId) {
+    return CHANNEL_PREFIX + sessionId;
+  }
+}
@@ -0,0 +1,90 @@
+package likelion.kitalk.touch.cart;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+// Redis 세션 해시 ↔ Cart 변환 (ObjectMapper 없이 필드를 직접 파싱)
+// - 메뉴 필드: "{menuId}" → 수량, 메타 필드: "_version", "_createdAt", "_updatedAt" (epoch millis)
+// - "_view"(조회 스크립트가 붙여 주는 가격 뷰 JSON)와 세션 필드("_packaging", "_phone", "_step", "_completed")는 decode에서 건너뛰고 fieldOf로 따로 읽음
+// - 이전 배포에서 저장된 ISO-8601 시각 문자열도 읽음
+final class CartHashCodec {
+
+  static final String VERSION_FIELD = "_version";
+  static final String CREATED_AT_FIELD = "_createdAt";
+  static final String UPDATED_AT_FIELD = "_updatedAt";
+  static final String VIEW_FIELD = "_view";
+  static final String PACKAGING_FIELD = "_packaging";
+  static final String PHONE_FIELD = "_phone";
+  static final String STEP_FIELD = "_step";
+  static final String COMPLETED_FIELD = "_completed";
+
+  private CartHashCodec() {
+  }
+
+  // HGETALL 결과(필드, 값 반복)를 from..to 구간에서 읽어 Cart로 변환
+  static Cart decode(List<?> flat, int from, int to, long now) {
+    List<CartLine> lines = new ArrayList<>((to - from) / 2);
+    long version = 0L;
+    long createdAt = now;
+    long updatedAt = now;
+
+    for (int i = from; i + 1 < to; i += 2) {
+      String field = String.valueOf(flat.get(i));
+      String value = String.valueOf(flat.get(i + 1));
+
+      if (field.charAt(0) != '_') {
+        int quantity = Integer.parseInt(value);
+        if (quantity > 0) {
+          lines.add(new CartLine(Long.parseLong(field), quantity));
+        }
+      } else if (VERSION_FIELD.equals(field)) {
+        version = Long.parseLong(value);
+      } else if (CREATED_AT_FIELD.equals(field)) {
+        createdAt = parseTimestamp(value, now);
+      } else if (UPDATED_AT_FIELD.equals(field)) {
+        updatedAt = parseTimestamp(value, now);
+      }
+    }
+
+    return new Cart(version, lines, createdAt, updatedAt);
+  }
+
+  // HGETALL 결과에서 특정 필드 값 (없으면 null)
+  static String fieldOf(List<?> flat, int from, int to, String field) {
+    for (int i = from; i + 1 < to; i += 2) {
+      if (field.equals(String.valueOf(flat.get(i)))) {
+        return String.valueOf(flat.get(i + 1));
+      }
+    }
+    return null;
+  }
+
+  // 스크립트 인자로 넘길 메뉴 필드/수량 (수량 0 이하 제외)
+  static List<String> encodeLines(Iterable<CartLine> lines) {
+    List<String> pairs = new ArrayList<>();
+    for (CartLine line : lines) {
+      if (line.quantity() > 0) {
+        pairs.add(Long.toString(line.menuId()));
+        pairs.add(Integer.toString(line.quantity()));
+      }
+    }
+    return pairs;
+  }
+
+  // epoch millis 또는 이전 형식(ISO-8601 LocalDateTime) 문자열
+  private static long parseTimestamp(String value, long fallback) {
+    if (value.isEmpty()) {
+      return fallback;
+    }
+    if (value.indexOf('T') < 0) {
+      return Long.parseLong(value);
+    }
+    try {
+      return LocalDateTime.parse(value).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    } catch (RuntimeException e) {
+      return fallback;
+    }
+  }
+}
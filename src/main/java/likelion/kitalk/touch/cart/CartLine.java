@@ -0,0 +1,5 @@
+package likelion.kitalk.touch.cart;
+
+// 장바구니 한 줄 (메뉴 id + 수량)
+public record CartLine(long menuId, int quantity) {
+}
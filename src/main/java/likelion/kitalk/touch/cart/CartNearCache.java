@@ -0,0 +1,246 @@
+package likelion.kitalk.touch.cart;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import jakarta.annotation.PreDestroy;
+import java.net.SocketAddress;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 노드 로컬 장바구니 근접 캐시 (선택 기능, 기본 꺼짐)
+// - 세션별 CartView(장바구니 + 포장 방식 등 세션 필드 + 가격 뷰)를 LRU로 최대 max-sessions개 보관
+// - Redis 6 client-side caching(RESP3 CLIENT TRACKING BCAST)으로 kiosk_session: 키 변경 알림을 받아 제거
+//   → 다른 노드에서 바뀐 장바구니도 알림 즉시 캐시에서 빠짐, 이 노드의 변경은 RedisCartStore가 바로 제거
+// - 알림 연결이 끊기면 놓친 알림이 있을 수 있으므로 캐시를 비우고 재연결 후 추적을 다시 켤 때까지 사용하지 않음
+// - 조회 중에 무효화가 오면 조회 결과를 넣지 않음 (예약 토큰이 제거됐는지로 판단)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CartNearCache {
+
+  private static final String[] TRACKED_PREFIXES = {RedisCartStore.SESSION_KEY_PREFIX};
+  private static final String INVALIDATE = "invalidate";
+
+  private final RedisProperties redisProperties;
+
+  @Value("${kitalk.cart.near-cache.enabled:false}")
+  private boolean enabled;
+
+  // 캐시에 보관할 최대 세션 수 (넘으면 가장 오래 안 쓴 세션부터 제거)
+  @Value("${kitalk.cart.near-cache.max-sessions:10000}")
+  private int maxSessions;
+
+  private final Map<String, Object> entries = new LinkedHashMap<>(256, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+      return size() > maxSessions;
+    }
+  };
+
+  private RedisClient client;
+  private StatefulRedisConnection<String, String> connection;
+
+  // 무효화 알림을 받고 있는 동안만 true
+  private volatile boolean tracking;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+
+    try {
+      client = RedisClient.create(redisUri());
+      client.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+      client.addListener(new RedisConnectionStateListener() {
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress address) {
+          // 최초 연결은 아래에서 직접 켜고, 재연결 때만 다시 켬
+          if (connection != null) {
+            enableTracking(false);
+          }
+        }
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+          trackingLost();
+          log.warn("장바구니 근접 캐시 무효화 연결 끊김 - 캐시 비움");
+        }
+      });
+
+      connection = client.connect(StringCodec.UTF8);
+      connection.addListener(message -> {
+        if (INVALIDATE.equals(message.getType())) {
+          onInvalidate(message.getContent(StringCodec.UTF8::decodeKey));
+        }
+      });
+      enableTracking(true);
+
+      log.info("장바구니 근접 캐시 시작 - maxSessions: {}", maxSessions);
+    } catch (Exception e) {
+      // 캐시 없이 Redis에서 바로 조회
+      tracking = false;
+      log.warn("장바구니 근접 캐시 시작 실패 - 캐시 없이 동작", e);
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    tracking = false;
+    if (connection != null) {
+      connection.close();
+    }
+    if (client != null) {
+      client.shutdown();
+    }
+  }
+
+  // 캐시된 장바구니 (없거나 추적 중이 아니면 null)
+  public RedisCartStore.CartView get(String sessionId) {
+    if (!tracking) {
+      return null;
+    }
+
+    synchronized (entries) {
+      Object entry = entries.get(sessionId);
+      return entry instanceof RedisCartStore.CartView view ? view : null;
+    }
+  }
+
+  // Redis 조회 전에 호출 - 조회가 끝나기 전에 무효화되면 토큰이 사라져 put이 무시됨
+  public Object reserve(String sessionId) {
+    if (!tracking) {
+      return null;
+    }
+
+    Object token = new Object();
+    synchronized (entries) {
+      entries.put(sessionId, token);
+    }
+    return token;
+  }
+
+  public void put(String sessionId, Object token, RedisCartStore.CartView view) {
+    if (token == null || !tracking) {
+      return;
+    }
+
+    synchronized (entries) {
+      if (entries.get(sessionId) == token) {
+        entries.put(sessionId, view);
+      }
+    }
+  }
+
+  public void evict(String sessionId) {
+    if (!enabled) {
+      return;
+    }
+
+    synchronized (entries) {
+      entries.remove(sessionId);
+    }
+  }
+
+  private void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  // 추적이 (다시) 켜짐 - 추적이 꺼져 있던 동안의 내용은 믿을 수 없으므로 비우고 사용 시작
+  void trackingStarted() {
+    clear();
+    tracking = true;
+  }
+
+  // 알림 연결 끊김 - 놓친 알림이 있을 수 있으므로 비우고 다시 켜질 때까지 사용 안 함
+  void trackingLost() {
+    tracking = false;
+    clear();
+  }
+
+  // 알림 내용: [ "invalidate", [키, ...] ] (FLUSHALL 등으로 전체 무효화면 키 목록이 null)
+  void onInvalidate(List<Object> content) {
+    Object keys = content.size() > 1 ? content.get(1) : null;
+    if (!(keys instanceof List<?> invalidated)) {
+      clear();
+      return;
+    }
+
+    for (Object key : invalidated) {
+      String sessionId = sessionIdOf(String.valueOf(key));
+      if (sessionId != null) {
+        evict(sessionId);
+      }
+    }
+  }
+
+  // 이 연결로 읽지 않은 키도 알림을 받도록 BCAST + prefix 모드 사용
+  private void enableTracking(boolean initial) {
+    TrackingArgs args = TrackingArgs.Builder.enabled().bcast().prefixes(TRACKED_PREFIXES);
+
+    if (initial) {
+      connection.sync().clientTracking(args);
+      trackingStarted();
+      return;
+    }
+
+    // 재연결 콜백은 이벤트 루프 스레드라 비동기로 실행
+    connection.async().clientTracking(args).whenComplete((result, error) -> {
+      if (error != null) {
+        log.warn("장바구니 근접 캐시 추적 재설정 실패 - 캐시 사용 중지", error);
+        return;
+      }
+      trackingStarted();
+      log.info("장바구니 근접 캐시 추적 재설정 완료");
+    });
+  }
+
+  private String sessionIdOf(String key) {
+    for (String prefix : TRACKED_PREFIXES) {
+      if (key.startsWith(prefix)) {
+        return key.substring(prefix.length());
+      }
+    }
+    return null;
+  }
+
+  private RedisURI redisUri() {
+    if (redisProperties.getUrl() != null && !redisProperties.getUrl().isBlank()) {
+      return RedisURI.create(redisProperties.getUrl());
+    }
+
+    RedisURI.Builder builder = RedisURI.builder()
+        .withHost(redisProperties.getHost())
+        .withPort(redisProperties.getPort())
+        .withDatabase(redisProperties.getDatabase())
+        .withSsl(redisProperties.getSsl().isEnabled());
+    if (redisProperties.getPassword() != null && !redisProperties.getPassword().isEmpty()) {
+      if (redisProperties.getUsername() != null && !redisProperties.getUsername().isEmpty()) {
+        builder.withAuthentication(redisProperties.getUsername(), redisProperties.getPassword());
+      } else {
+        builder.withPassword(redisProperties.getPassword().toCharArray());
+      }
+    }
+    if (redisProperties.getTimeout() != null) {
+      builder.withTimeout(redisProperties.getTimeout());
+    }
+    return builder.build();
+  }
+}
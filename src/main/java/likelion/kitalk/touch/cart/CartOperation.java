@@ -0,0 +1,48 @@
+package likelion.kitalk.touch.cart;
+
+// 장바구니 일괄 변경의 한 동작 (RedisCartStore.apply에서 순서대로 한 스크립트로 적용)
+public record CartOperation(Type type, long menuId, int quantity, String packagingType) {
+
+  public static CartOperation add(long menuId, int quantity) {
+    return new CartOperation(Type.ADD, menuId, quantity, null);
+  }
+
+  public static CartOperation remove(long menuId) {
+    return new CartOperation(Type.REMOVE, menuId, 0, null);
+  }
+
+  public static CartOperation setQuantity(long menuId, int quantity) {
+    return new CartOperation(Type.SET, menuId, quantity, null);
+  }
+
+  public static CartOperation packaging(String packagingType) {
+    return new CartOperation(Type.PACKAGING, 0L, 0, packagingType);
+  }
+
+  public enum Type {
+    ADD("add"),
+    REMOVE("remove"),
+    SET("set"),
+    PACKAGING("packaging");
+
+    private final String code;
+
+    Type(String code) {
+      this.code = code;
+    }
+
+    public String code() {
+      return code;
+    }
+
+    // 요청의 type 문자열 → Type (모르는 값이면 null)
+    public static Type of(String code) {
+      for (Type type : values()) {
+        if (type.code.equalsIgnoreCase(code)) {
+          return type;
+        }
+      }
+      return null;
+    }
+  }
+}
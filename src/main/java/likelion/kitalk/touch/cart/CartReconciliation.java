@@ -0,0 +1,49 @@
+package likelion.kitalk.touch.cart;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 요청한 장바구니와 교체 전 장바구니의 차이 (각 목록을 한 번씩만 훑음)
+// - added: 새로 담긴 메뉴, updated: 수량이 바뀐 메뉴, removed: 빠진 메뉴 (수량 0 요청 + 요청에 없는 메뉴)
+public record CartReconciliation(int added, int updated, int removed) {
+
+  // 요청 항목 → 저장할 메뉴 줄 (같은 메뉴가 여러 번이면 마지막 값, 수량 0 이하는 제외, 처음 나온 순서 유지)
+  public static List<CartLine> desiredLines(List<CartLine> requested) {
+    Map<Long, Integer> quantities = new LinkedHashMap<>(requested.size() * 2);
+    for (CartLine line : requested) {
+      quantities.put(line.menuId(), line.quantity());
+    }
+
+    List<CartLine> desired = new ArrayList<>(quantities.size());
+    quantities.forEach((menuId, quantity) -> {
+      if (quantity > 0) {
+        desired.add(new CartLine(menuId, quantity));
+      }
+    });
+    return desired;
+  }
+
+  public static CartReconciliation of(List<CartLine> previous, List<CartLine> desired) {
+    Map<Long, Integer> remaining = new HashMap<>(previous.size() * 2);
+    for (CartLine line : previous) {
+      remaining.put(line.menuId(), line.quantity());
+    }
+
+    int added = 0;
+    int updated = 0;
+    for (CartLine line : desired) {
+      Integer before = remaining.remove(line.menuId());
+      if (before == null) {
+        added++;
+      } else if (before != line.quantity()) {
+        updated++;
+      }
+    }
+
+    // 요청 후에도 남은 기존 메뉴는 모두 제거된 것
+    return new CartReconciliation(added, updated, remaining.size());
+  }
+}
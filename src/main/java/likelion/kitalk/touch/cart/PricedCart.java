@@ -0,0 +1,21 @@
+package likelion.kitalk.touch.cart;
+
+import java.util.List;
+import likelion.kitalk.touch.dto.CartItemDetail;
+
+// 가격이 매겨진 장바구니 뷰 (세션 해시와 같은 TTL의 kiosk_session_view:{sessionId} 키에 JSON으로 보관)
+// - 장바구니 버전, 메뉴 카탈로그 버전, 인기 메뉴 구성이 모두 같을 때만 재사용
+public record PricedCart(
+    long cartVersion,
+    long catalogVersion,
+    long popularSignature,
+    List<CartItemDetail> orders,
+    int totalPrice
+) {
+
+  public boolean isFresh(long cartVersion, long catalogVersion, long popularSignature) {
+    return this.cartVersion == cartVersion
+        && this.catalogVersion == catalogVersion
+        && this.popularSignature == popularSignature;
+  }
+}
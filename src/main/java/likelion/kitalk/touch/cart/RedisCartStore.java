@@ -0,0 +1,609 @@
+package likelion.kitalk.touch.cart;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import likelion.kitalk.global.exception.CustomException;
+import likelion.kitalk.touch.exception.CartErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// 키오스크 세션 저장소 (Redis 해시 하나 + 가격 뷰 문자열 하나, TTL은 같이 움직임)
+// - kiosk_session:{sessionId} → { "{menuId}": 수량, "_version": n, "_createdAt"/"_updatedAt": epoch millis,
+//   "_packaging": 포장 방식, "_phone": 전화번호, "_step": 진행 단계, "_completed": 완료된 주문 번호 }
+// - kiosk_session_view:{sessionId} → 가격 뷰(PricedCart) JSON
+// - 모든 변경은 Lua 스크립트 한 번(EVALSHA)으로 처리: 버전 확인 → 변경 → 버전 증가 → EXPIRE → 전체 세션 반환
+//   → 노드가 여러 대여도 같은 세션의 변경이 섞이지 않고, 왕복은 요청당 한 번
+// - expectedVersion을 넘기면 그 버전일 때만 적용 (다르면 CART_VERSION_CONFLICT) - 중복 탭 방지용
+// - 빈 장바구니도 _createdAt 필드로 키가 유지됨 (세션 존재 확인용)
+// - 담은 순서는 해시가 listpack 인코딩일 때만 유지됨 (필드 128개, 값 64바이트 이하)
+//   → 큰 값인 가격 뷰는 해시에 넣지 않고 별도 키에 둠 (한 번 hashtable로 바뀐 해시는 필드를 지워도 돌아오지 않음)
+// - TTL은 세션 전체에 하나, 변경할 때마다 2시간으로 연장 (주문 완료 후에는 연장하지 않고 짧게 유지)
+// - 이전 배포의 세션별 키(touch_cart:, touch_packaging:, touch_phone:, touch_session_completed:, session:)는
+//   스크립트가 처음 만질 때 해시로 옮기고 지움 (TTL 유지)
+// - view 조회는 CartNearCache(선택)가 켜져 있으면 노드 메모리에서 먼저 찾음, 이 노드의 변경은 즉시 캐시에서 제거
+// - 가격 뷰는 변경 스크립트가 지우고 변경 후 계산한 뷰를 버전 확인 후 다시 저장, TTL은 세션 해시의 남은 TTL을 따름
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCartStore {
+
+  static final String SESSION_KEY_PREFIX = "kiosk_session:";
+  private static final String VIEW_KEY_PREFIX = "kiosk_session_view:";
+  private static final long SESSION_EXPIRE_HOURS = 2;
+  private static final long SCAN_COUNT = 500;
+
+  // 이전 배포의 세션별 키 (스크립트 KEYS[2..6] 순서)
+  private static final List<String> LEGACY_KEY_PREFIXES = List.of(
+      "touch_cart:", "touch_packaging:", "touch_phone:", "touch_session_completed:", "session:");
+
+  private static final String STATUS_OK = "ok";
+  private static final String STATUS_CONFLICT = "conflict";
+  private static final String STATUS_FENCED = "fenced";
+  private static final String STATUS_MISSING = "missing";
+
+  // 세션 해시가 아직 없으면 이전 배포의 키를 옮김
+  // KEYS[2]=장바구니(해시 또는 {"items":[{"menuId","quantity"}], "createdAt"} JSON 문자열, 형식이 깨진 JSON은 옮기지 않음),
+  // KEYS[3..6]=포장 방식/전화번호/주문 완료/세션 JSON 문자열 → 각각 _packaging, _phone, _completed, _step
+  // TTL은 남아 있던 키 중 가장 긴 것 (주문 완료 키가 있으면 그 TTL), 없으면 ARGV[3]
+  private static final String MIGRATE_LEGACY = """
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        local ttl = 0
+        local cartType = redis.call('TYPE', KEYS[2]).ok
+        if cartType == 'hash' then
+          local fields = redis.call('HGETALL', KEYS[2])
+          for i = 1, #fields, 2 do
+            redis.call('HSET', KEYS[1], fields[i], fields[i + 1])
+          end
+          ttl = redis.call('PTTL', KEYS[2])
+        elseif cartType == 'string' then
+          local ok, legacy = pcall(cjson.decode, redis.call('GET', KEYS[2]))
+          if ok and type(legacy) == 'table' and type(legacy.items) == 'table' then
+            for _, item in ipairs(legacy.items) do
+              local menuId = type(item) == 'table' and tonumber(item.menuId)
+              local quantity = type(item) == 'table' and tonumber(item.quantity)
+              if menuId and quantity and quantity > 0 then
+                redis.call('HSET', KEYS[1], string.format('%d', menuId), string.format('%d', quantity))
+              end
+            end
+            redis.call('HSET', KEYS[1], '_createdAt', type(legacy.createdAt) == 'string' and legacy.createdAt or ARGV[2])
+            ttl = redis.call('PTTL', KEYS[2])
+          end
+        end
+        local targets = { '_packaging', '_phone', '_completed', '_step' }
+        local sources = { 'packagingType', 'phone_number', 'order_id', 'step' }
+        local completed = false
+        local completedTtl = 0
+        for i = 3, 6 do
+          local raw = redis.call('GET', KEYS[i])
+          if raw then
+            local ok, legacy = pcall(cjson.decode, raw)
+            local value = ok and type(legacy) == 'table' and legacy[sources[i - 2]]
+            if type(value) == 'number' then
+              value = string.format('%d', value)
+            end
+            if type(value) == 'string' then
+              redis.call('HSET', KEYS[1], targets[i - 2], value)
+            end
+            local keyTtl = redis.call('PTTL', KEYS[i])
+            if i == 5 then
+              completed = true
+              completedTtl = keyTtl
+            elseif keyTtl > ttl then
+              ttl = keyTtl
+            end
+          end
+        end
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+          redis.call('HSETNX', KEYS[1], '_createdAt', ARGV[2])
+          if completed then
+            redis.call('HSET', KEYS[1], '_step', 'completed')
+            redis.call('HSETNX', KEYS[1], '_completed', '0')
+            ttl = completedTtl
+          end
+          if ttl > 0 then
+            redis.call('PEXPIRE', KEYS[1], ttl)
+          else
+            redis.call('EXPIRE', KEYS[1], tonumber(ARGV[3]))
+          end
+          redis.call('DEL', KEYS[2], KEYS[3], KEYS[4], KEYS[5], KEYS[6])
+        end
+      end
+      """;
+
+  // 세션 TTL 연장 (주문 완료된 세션은 완료 시 정한 짧은 TTL 유지), KEYS[7]=가격 뷰
+  private static final String SLIDE_TTL = """
+      if redis.call('HEXISTS', KEYS[1], '_completed') == 0 then
+        redis.call('EXPIRE', KEYS[1], tonumber(ARGV[3]))
+        redis.call('EXPIRE', KEYS[7], tonumber(ARGV[3]))
+      end
+      """;
+
+  // 공통 앞부분: KEYS[1]=세션, KEYS[2..6]=이전 배포 키, KEYS[7]=가격 뷰
+  // ARGV[1]=기대 버전("" = 확인 안 함), ARGV[2]=now(ms), ARGV[3]=TTL(초)
+  private static final String CHECK_VERSION = MIGRATE_LEGACY + """
+      local version = tonumber(redis.call('HGET', KEYS[1], '_version') or '0')
+      if ARGV[1] ~= '' and tonumber(ARGV[1]) ~= version then
+        return { 'conflict', tostring(version), '0' }
+      end
+      local previous = {}
+      """;
+
+  // 공통 뒷부분: { 상태, 버전, 이전 필드 수, 이전 필드/값..., 현재 필드/값... }
+  // (해시의 '_view'는 이전 배포가 해시에 두던 가격 뷰 → 남아 있으면 함께 지움)
+  private static final String COMMIT = """
+      redis.call('DEL', KEYS[7])
+      redis.call('HDEL', KEYS[1], '_view')
+      redis.call('HSETNX', KEYS[1], '_createdAt', ARGV[2])
+      redis.call('HSET', KEYS[1], '_updatedAt', ARGV[2])
+      version = redis.call('HINCRBY', KEYS[1], '_version', 1)
+      """ + SLIDE_TTL + """
+      local result = { 'ok', tostring(version), tostring(#previous / 2) }
+      for i = 1, #previous do
+        result[#result + 1] = previous[i]
+      end
+      local current = redis.call('HGETALL', KEYS[1])
+      for i = 1, #current do
+        result[#result + 1] = current[i]
+      end
+      return result
+      """;
+
+  // 조회: 세션 필드/값 (없으면 빈 목록), 가격 뷰가 있으면 맨 앞에 "_view", JSON으로 붙임
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(MIGRATE_LEGACY + """
+      local fields = redis.call('HGETALL', KEYS[1])
+      if #fields == 0 then
+        return fields
+      end
+      local view = redis.call('GET', KEYS[7])
+      if view then
+        table.insert(fields, 1, view)
+        table.insert(fields, 1, '_view')
+      end
+      return fields
+      """, List.class);
+
+  // 존재 확인 (이전 배포 키만 있어도 옮긴 뒤 1)
+  private static final RedisScript<Long> EXISTS_SCRIPT = new DefaultRedisScript<>(MIGRATE_LEGACY + """
+      return redis.call('EXISTS', KEYS[1])
+      """, Long.class);
+
+  // 세션 메타 필드 저장 (장바구니 버전은 그대로): ARGV[1]=TTL(초, "" = 기본 연장), ARGV[4..]=필드, 값 반복
+  // → 세션을 새로 만들었으면 1
+  private static final RedisScript<Long> WRITE_FIELDS_SCRIPT = new DefaultRedisScript<>(MIGRATE_LEGACY + """
+      local created = redis.call('HSETNX', KEYS[1], '_createdAt', ARGV[2])
+      for i = 4, #ARGV, 2 do
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+      end
+      if ARGV[1] ~= '' then
+        redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1]))
+        redis.call('EXPIRE', KEYS[7], tonumber(ARGV[1]))
+      else
+      """ + SLIDE_TTL + """
+      end
+      return created
+      """, Long.class);
+
+  // TTL 변경 (세션이 없으면 0)
+  private static final RedisScript<Long> EXPIRE_SCRIPT = new DefaultRedisScript<>(MIGRATE_LEGACY + """
+      redis.call('EXPIRE', KEYS[7], tonumber(ARGV[1]))
+      return redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1]))
+      """, Long.class);
+
+  // ARGV[4]=menuId, ARGV[5]=증가 수량
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> INCREMENT_SCRIPT = new DefaultRedisScript<>(CHECK_VERSION + """
+      redis.call('HINCRBY', KEYS[1], ARGV[4], tonumber(ARGV[5]))
+      """ + COMMIT, List.class);
+
+  // ARGV[4]=menuId (장바구니에 없으면 변경 없이 missing)
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> REMOVE_SCRIPT = new DefaultRedisScript<>(CHECK_VERSION + """
+      if redis.call('HDEL', KEYS[1], ARGV[4]) == 0 then
+        return { 'missing', tostring(version), '0' }
+      end
+      """ + COMMIT, List.class);
+
+  // ARGV[4..]=menuId, 수량 반복 (메타 필드는 유지하고 메뉴 필드만 교체, 교체 전 내용은 previous로 반환)
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> REPLACE_SCRIPT = new DefaultRedisScript<>(CHECK_VERSION + """
+      local fields = redis.call('HGETALL', KEYS[1])
+      for i = 1, #fields, 2 do
+        if string.sub(fields[i], 1, 1) ~= '_' then
+          previous[#previous + 1] = fields[i]
+          previous[#previous + 1] = fields[i + 1]
+          redis.call('HDEL', KEYS[1], fields[i])
+        end
+      end
+      for i = 4, #ARGV, 2 do
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+      end
+      """ + COMMIT, List.class);
+
+  // ARGV[4..]=동작, 대상, 수량 반복 (add: HINCRBY, set: 0이면 HDEL 아니면 HSET, remove: HDEL, packaging: 대상=포장 방식)
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> BATCH_SCRIPT = new DefaultRedisScript<>(CHECK_VERSION + """
+      for i = 4, #ARGV, 3 do
+        local op = ARGV[i]
+        if op == 'add' then
+          redis.call('HINCRBY', KEYS[1], ARGV[i + 1], tonumber(ARGV[i + 2]))
+        elseif op == 'set' then
+          if tonumber(ARGV[i + 2]) > 0 then
+            redis.call('HSET', KEYS[1], ARGV[i + 1], ARGV[i + 2])
+          else
+            redis.call('HDEL', KEYS[1], ARGV[i + 1])
+          end
+        elseif op == 'remove' then
+          redis.call('HDEL', KEYS[1], ARGV[i + 1])
+        elseif op == 'packaging' then
+          redis.call('HSET', KEYS[1], '_packaging', ARGV[i + 1])
+        end
+      end
+      """ + COMMIT, List.class);
+
+  // 가격 뷰 저장: KEYS[1]=세션, KEYS[2]=가격 뷰, ARGV[1]=뷰를 계산한 장바구니 버전, ARGV[2]=뷰 JSON
+  // (그 사이 장바구니가 바뀌었거나 세션 TTL이 없으면 저장하지 않음)
+  private static final RedisScript<Long> SAVE_VIEW_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('HGET', KEYS[1], '_version') ~= ARGV[1] then
+        return 0
+      end
+      local ttl = redis.call('PTTL', KEYS[1])
+      if ttl <= 0 then
+        return 0
+      end
+      redis.call('SET', KEYS[2], ARGV[2], 'PX', ttl)
+      return 1
+      """, Long.class);
+
+  // 주문 접수: KEYS[1]=세션, KEYS[2]=주문 스트림, KEYS[3]=주문 완료 잠금, KEYS[4]=가격 뷰
+  // ARGV[1]=주문한 장바구니 버전, ARGV[2]=세션 ID, ARGV[3]=주문 JSON, ARGV[4]=완료 후 세션 유지 시간(초), ARGV[5]=주문 번호
+  // ARGV[6]=주문 전화번호 (없으면 ""), ARGV[7]=잠금 fencing token
+  // → 장바구니가 그대로면 스트림 추가 + 완료 표시(+ 전화번호 저장) + 잠금 해제를 한 번에 { 'ok', 주문 번호 }
+  //   이미 완료면 { 'completed', 주문 번호 }, 잠금이 만료/다른 요청으로 넘어갔으면 { 'fenced', '' }
+  //   그 사이 장바구니가 바뀌었으면 { 'conflict', '' }
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CHECKOUT_SCRIPT = new DefaultRedisScript<>("""
+      local completed = redis.call('HGET', KEYS[1], '_completed')
+      if completed then
+        return { 'completed', completed }
+      end
+      if redis.call('GET', KEYS[3]) ~= ARGV[7] then
+        return { 'fenced', '' }
+      end
+      if (redis.call('HGET', KEYS[1], '_version') or '0') ~= ARGV[1] then
+        return { 'conflict', '' }
+      end
+      redis.call('XADD', KEYS[2], '*', 'order_id', ARGV[5], 'session_id', ARGV[2], 'order', ARGV[3])
+      redis.call('HSET', KEYS[1], '_completed', ARGV[5], '_step', 'completed')
+      if ARGV[6] ~= '' then
+        redis.call('HSET', KEYS[1], '_phone', ARGV[6])
+      end
+      redis.call('EXPIRE', KEYS[1], tonumber(ARGV[4]))
+      redis.call('EXPIRE', KEYS[4], tonumber(ARGV[4]))
+      redis.call('DEL', KEYS[3])
+      return { 'ok', ARGV[5] }
+      """, List.class);
+
+  private static final List<RedisScript<?>> SCRIPTS = List.of(READ_SCRIPT, EXISTS_SCRIPT, WRITE_FIELDS_SCRIPT,
+      EXPIRE_SCRIPT, INCREMENT_SCRIPT, REMOVE_SCRIPT, REPLACE_SCRIPT, BATCH_SCRIPT, SAVE_VIEW_SCRIPT, CHECKOUT_SCRIPT);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final CartNearCache nearCache;
+
+  // 첫 요청이 NOSCRIPT → EVAL로 한 번 더 왕복하지 않도록 기동 시 스크립트 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void preloadScripts() {
+    try {
+      redisTemplate.execute((RedisCallback<Void>) connection -> {
+        for (RedisScript<?> script : SCRIPTS) {
+          load(connection, script);
+        }
+        return null;
+      });
+      log.info("장바구니 Lua 스크립트 적재 완료 - {}개", SCRIPTS.size());
+    } catch (Exception e) {
+      // 적재 실패해도 첫 실행 시 EVAL로 대체됨
+      log.warn("장바구니 Lua 스크립트 적재 실패", e);
+    }
+  }
+
+  // 장바구니 + 포장 방식 조회 (장바구니가 없으면 빈 장바구니)
+  public CartView view(String sessionId) {
+    CartView cached = nearCache.get(sessionId);
+    if (cached != null) {
+      return cached;
+    }
+
+    Object token = nearCache.reserve(sessionId);
+    CartView view = load(sessionId);
+    if (view.cart() == null) {
+      view = new CartView(Cart.empty(System.currentTimeMillis()), null, null, null, null, null);
+    }
+    nearCache.put(sessionId, token, view);
+    return view;
+  }
+
+  // 세션 전체를 스크립트 한 번으로 조회 (세션이 없으면 cart = null)
+  public CartView load(String sessionId) {
+    long now = System.currentTimeMillis();
+    List<?> raw = redisTemplate.execute(READ_SCRIPT, keysOf(sessionId), "", String.valueOf(now), ttlSeconds());
+    if (raw == null) {
+      throw new IllegalStateException("장바구니 스크립트 결과 없음");
+    }
+
+    if (raw.isEmpty()) {
+      return new CartView(null, null, null, null, null, null);
+    }
+    return viewOf(sessionId, raw, 0, now, true);
+  }
+
+  public boolean exists(String sessionId) {
+    Long exists = redisTemplate.execute(EXISTS_SCRIPT, keysOf(sessionId),
+        "", String.valueOf(System.currentTimeMillis()), ttlSeconds());
+    return exists != null && exists == 1L;
+  }
+
+  // 현재 있는 세션 ID 목록 (KEYS 대신 SCAN으로 나눠 조회, 이전 배포 키만 있는 세션은 포함하지 않음)
+  public Set<String> sessionIds() {
+    ScanOptions options = ScanOptions.scanOptions().match(SESSION_KEY_PREFIX + "*").count(SCAN_COUNT).build();
+    Set<String> sessionIds = new LinkedHashSet<>();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      // SCAN은 같은 키를 여러 번 돌려줄 수 있으므로 Set으로 중복 제거
+      cursor.forEachRemaining(key -> sessionIds.add(key.substring(SESSION_KEY_PREFIX.length())));
+    }
+    return sessionIds;
+  }
+
+  // 전화번호 저장 (세션이 없으면 빈 장바구니로 생성), 새로 만들었으면 true
+  public boolean savePhoneNumber(String sessionId, String phoneNumber) {
+    return writeFields(sessionId, null, CartHashCodec.PHONE_FIELD, phoneNumber);
+  }
+
+  // 포장 방식 저장 (세션 TTL도 함께 연장)
+  public void setPackagingType(String sessionId, String packagingType) {
+    writeFields(sessionId, null, CartHashCodec.PACKAGING_FIELD, packagingType);
+  }
+
+  // 진행 단계 저장 (keepFor가 있으면 세션 TTL을 그 값으로)
+  public boolean setStep(String sessionId, String step, Duration keepFor) {
+    return writeFields(sessionId, keepFor, CartHashCodec.STEP_FIELD, step);
+  }
+
+  // 주문 접수 (주문 스트림 추가 + 완료 표시를 스크립트 한 번으로)
+  // - cartVersion: 주문 내용을 계산한 장바구니 버전 (그 사이 바뀌었으면 CART_VERSION_CONFLICT)
+  // - lockKey/fencingToken: 주문 완료 잠금 키와 잠금을 얻을 때 받은 토큰 (잠금 값이 다르면 fenced = true, 접수 안 함)
+  // - orderId: 미리 발급한 주문 번호, phoneNumber: 세션에 함께 저장할 주문 전화번호 (null이면 그대로)
+  // - 이미 완료된 세션이면 completed = true와 기존 주문 번호
+  public Checkout checkout(String sessionId, long cartVersion, String streamKey, String lockKey, long fencingToken,
+      long orderId, String orderJson, String phoneNumber, Duration keepFor) {
+    List<?> raw = redisTemplate.execute(CHECKOUT_SCRIPT, List.of(keyOf(sessionId), streamKey, lockKey, viewKeyOf(sessionId)),
+        String.valueOf(cartVersion), sessionId, orderJson, String.valueOf(keepFor.toSeconds()),
+        String.valueOf(orderId), phoneNumber != null ? phoneNumber : "", String.valueOf(fencingToken));
+    nearCache.evict(sessionId);
+    if (raw == null || raw.size() < 2) {
+      throw new IllegalStateException("주문 접수 스크립트 결과 없음");
+    }
+
+    String status = String.valueOf(raw.get(0));
+    if (STATUS_CONFLICT.equals(status)) {
+      log.warn("주문 중 장바구니 변경 - sessionId: {}, 주문 버전: {}", sessionId, cartVersion);
+      throw new CustomException(CartErrorCode.CART_VERSION_CONFLICT);
+    }
+    if (STATUS_FENCED.equals(status)) {
+      log.warn("주문 완료 잠금 만료 - sessionId: {}, 토큰: {}", sessionId, fencingToken);
+      return new Checkout(0L, false, true);
+    }
+    return new Checkout(Long.parseLong(String.valueOf(raw.get(1))), !STATUS_OK.equals(status), false);
+  }
+
+  // 세션 TTL 변경 (세션이 없으면 false)
+  public boolean expire(String sessionId, Duration ttl) {
+    Long result = redisTemplate.execute(EXPIRE_SCRIPT, keysOf(sessionId),
+        String.valueOf(ttl.toSeconds()), String.valueOf(System.currentTimeMillis()), ttlSeconds());
+    nearCache.evict(sessionId);
+    return result != null && result == 1L;
+  }
+
+  // 세션 삭제 (가격 뷰, 이전 배포 키도 함께), 지운 게 있으면 true
+  public boolean delete(String sessionId) {
+    Long deleted = redisTemplate.delete(keysOf(sessionId));
+    nearCache.evict(sessionId);
+    return deleted != null && deleted > 0;
+  }
+
+  // 가격 뷰 저장 (캐시 용도라 실패해도 무시, 한 번도 변경되지 않은 빈 장바구니는 저장하지 않음)
+  public void savePriced(String sessionId, PricedCart priced) {
+    if (priced.cartVersion() == 0) {
+      return;
+    }
+
+    try {
+      redisTemplate.execute(SAVE_VIEW_SCRIPT, List.of(keyOf(sessionId), viewKeyOf(sessionId)),
+          String.valueOf(priced.cartVersion()), objectMapper.writeValueAsString(priced));
+    } catch (Exception e) {
+      log.warn("장바구니 가격 뷰 저장 실패 - sessionId: {}", sessionId, e);
+    }
+  }
+
+  // 메뉴 수량 증가 (없던 메뉴면 추가) 후 전체 장바구니 반환
+  public CartView increment(String sessionId, Long expectedVersion, long menuId, int quantity) {
+    Result result = run(INCREMENT_SCRIPT, sessionId, expectedVersion,
+        List.of(String.valueOf(menuId), String.valueOf(quantity)));
+    return result.view();
+  }
+
+  // 메뉴 삭제 후 전체 장바구니 반환 (장바구니에 없던 메뉴면 null)
+  public CartView remove(String sessionId, Long expectedVersion, long menuId) {
+    Result result = run(REMOVE_SCRIPT, sessionId, expectedVersion, List.of(String.valueOf(menuId)));
+    return STATUS_MISSING.equals(result.status()) ? null : result.view();
+  }
+
+  // 장바구니 전체 교체 (수량 0 이하 메뉴는 제외)
+  public Replacement replace(String sessionId, Long expectedVersion, List<CartLine> lines) {
+    Result result = run(REPLACE_SCRIPT, sessionId, expectedVersion, CartHashCodec.encodeLines(lines));
+    return new Replacement(result.previous(), result.view());
+  }
+
+  // 여러 동작을 순서대로 한 스크립트에서 적용 (전부 적용되거나, 버전 충돌이면 아무것도 적용되지 않음)
+  public CartView apply(String sessionId, Long expectedVersion, List<CartOperation> operations) {
+    List<String> args = new ArrayList<>(operations.size() * 3);
+    for (CartOperation operation : operations) {
+      args.add(operation.type().code());
+      if (operation.type() == CartOperation.Type.PACKAGING) {
+        args.add(operation.packagingType());
+      } else {
+        args.add(String.valueOf(operation.menuId()));
+      }
+      args.add(String.valueOf(operation.quantity()));
+    }
+
+    return run(BATCH_SCRIPT, sessionId, expectedVersion, args).view();
+  }
+
+  // 장바구니 비우기 (키는 유지하고 메뉴만 제거, 버전 증가)
+  public CartView clear(String sessionId) {
+    return run(REPLACE_SCRIPT, sessionId, null, List.of()).view();
+  }
+
+  @SuppressWarnings("rawtypes")
+  private Result run(RedisScript<List> script, String sessionId, Long expectedVersion, List<String> args) {
+    long now = System.currentTimeMillis();
+    Object[] argv = new Object[3 + args.size()];
+    argv[0] = expectedVersion != null ? String.valueOf(expectedVersion) : "";
+    argv[1] = String.valueOf(now);
+    argv[2] = ttlSeconds();
+    for (int i = 0; i < args.size(); i++) {
+      argv[3 + i] = args.get(i);
+    }
+
+    List<?> raw = redisTemplate.execute(script, keysOf(sessionId), argv);
+    nearCache.evict(sessionId);
+    if (raw == null || raw.size() < 3) {
+      throw new IllegalStateException("장바구니 스크립트 결과 없음");
+    }
+
+    String status = String.valueOf(raw.get(0));
+    if (STATUS_CONFLICT.equals(status)) {
+      log.warn("장바구니 버전 충돌 - sessionId: {}, 기대: {}, 현재: {}",
+          sessionId, expectedVersion, raw.get(1));
+      throw new CustomException(CartErrorCode.CART_VERSION_CONFLICT);
+    }
+
+    int previousCount = Integer.parseInt(String.valueOf(raw.get(2)));
+    int currentFrom = 3 + previousCount * 2;
+    Cart previous = CartHashCodec.decode(raw, 3, currentFrom, now);
+
+    return new Result(status, previous.lines(), viewOf(sessionId, raw, currentFrom, now, false));
+  }
+
+  // 메타 필드 저장 스크립트 실행 (keepFor가 null이면 기본 TTL로 연장), 세션을 새로 만들었으면 true
+  private boolean writeFields(String sessionId, Duration keepFor, String... pairs) {
+    Object[] argv = new Object[3 + pairs.length];
+    argv[0] = keepFor != null ? String.valueOf(keepFor.toSeconds()) : "";
+    argv[1] = String.valueOf(System.currentTimeMillis());
+    argv[2] = ttlSeconds();
+    System.arraycopy(pairs, 0, argv, 3, pairs.length);
+
+    Long created = redisTemplate.execute(WRITE_FIELDS_SCRIPT, keysOf(sessionId), argv);
+    nearCache.evict(sessionId);
+    return created != null && created == 1L;
+  }
+
+  // 세션 해시(필드, 값 반복)의 from..끝 구간 → CartView (withPriced가 false면 가격 뷰는 읽지 않음)
+  private CartView viewOf(String sessionId, List<?> raw, int from, long now, boolean withPriced) {
+    int to = raw.size();
+    Cart cart = CartHashCodec.decode(raw, from, to, now);
+    PricedCart priced = withPriced
+        ? pricedOf(sessionId, CartHashCodec.fieldOf(raw, from, to, CartHashCodec.VIEW_FIELD))
+        : null;
+    return new CartView(cart,
+        CartHashCodec.fieldOf(raw, from, to, CartHashCodec.PACKAGING_FIELD),
+        CartHashCodec.fieldOf(raw, from, to, CartHashCodec.PHONE_FIELD),
+        CartHashCodec.fieldOf(raw, from, to, CartHashCodec.STEP_FIELD),
+        CartHashCodec.fieldOf(raw, from, to, CartHashCodec.COMPLETED_FIELD),
+        priced);
+  }
+
+  private void load(RedisConnection connection, RedisScript<?> script) {
+    connection.scriptingCommands()
+        .scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  // 저장된 가격 뷰 JSON 복원 (없거나 깨졌으면 null → 다시 계산)
+  private PricedCart pricedOf(String sessionId, String pricedJson) {
+    if (pricedJson == null) {
+      return null;
+    }
+
+    try {
+      return objectMapper.readValue(pricedJson, PricedCart.class);
+    } catch (JsonProcessingException e) {
+      log.warn("장바구니 가격 뷰 파싱 실패 - sessionId: {}, 다시 계산", sessionId, e);
+      return null;
+    }
+  }
+
+  private String ttlSeconds() {
+    return String.valueOf(TimeUnit.HOURS.toSeconds(SESSION_EXPIRE_HOURS));
+  }
+
+  private String keyOf(String sessionId) {
+    return SESSION_KEY_PREFIX + sessionId;
+  }
+
+  private String viewKeyOf(String sessionId) {
+    return VIEW_KEY_PREFIX + sessionId;
+  }
+
+  // KEYS[1]=세션 해시, KEYS[2..6]=이전 배포 키, KEYS[7]=가격 뷰
+  private List<String> keysOf(String sessionId) {
+    List<String> keys = new ArrayList<>(2 + LEGACY_KEY_PREFIXES.size());
+    keys.add(keyOf(sessionId));
+    for (String prefix : LEGACY_KEY_PREFIXES) {
+      keys.add(prefix + sessionId);
+    }
+    keys.add(viewKeyOf(sessionId));
+    return keys;
+  }
+
+  private record Result(String status, List<CartLine> previous, CartView view) {
+  }
+
+  // cart: 장바구니 (load에서 세션이 없으면 null), packagingType/phoneNumber/step: 설정 안 됐으면 null
+  // completedOrderId: 주문 완료 전이면 null
+  // priced: 저장돼 있던 가격 뷰 (없으면 null, 최신인지는 호출 측에서 PricedCart.isFresh로 확인)
+  public record CartView(Cart cart, String packagingType, String phoneNumber, String step,
+                         String completedOrderId, PricedCart priced) {
+
+    public boolean completed() {
+      return completedOrderId != null;
+    }
+  }
+
+  // orderId: 주문 번호, completed: 이번 요청 전에 이미 완료된 세션이었으면 true
+  // fenced: 주문 완료 잠금을 잃어 접수하지 않았으면 true
+  public record Checkout(long orderId, boolean completed, boolean fenced) {
+  }
+
+  // previous: 교체 전 메뉴 줄, view: 교체 후 장바구니
+  public record Replacement(List<CartLine> previous, CartView view) {
+  }
+}
@@ -0,0 +1,99 @@
+package likelion.kitalk.touch.catalog;
+
+// 한글 음절 → 자모 분해 유틸 (메뉴 검색 색인용)
+// - 초성/중성/종성을 모두 호환 자모(ㄱ, ㅏ ...)로 바꿔 사용자가 입력한 낱자와 바로 비교
+// - 겹받침/이중모음은 기본 자모로 풀어서 "아멜" → "아메리카노" 같은 입력 중간 상태도 접두 일치
+final class HangulJamo {
+
+  private static final char SYLLABLE_BEGIN = 0xAC00;
+  private static final char SYLLABLE_END = 0xD7A3;
+
+  private static final String[] CHOSUNG = {
+      "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+      "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  private static final String[] JUNGSUNG = {
+      "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+      "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+  };
+
+  private static final String[] JONGSUNG = {
+      "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+      "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+      "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  // 단독으로 입력된 호환 자모 중 겹자모 분해표 (ㄳ, ㅘ 등)
+  private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+  private static final String[] COMPOUND_JAMO_PARTS = {
+      "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+      "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+  };
+
+  private HangulJamo() {
+  }
+
+  // 공백 제거 + 영문 소문자화 ("바닐라 라떼" → "바닐라라떼")
+  static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+
+    StringBuilder builder = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char ch = text.charAt(i);
+      if (!Character.isWhitespace(ch)) {
+        builder.append(Character.toLowerCase(ch));
+      }
+    }
+    return builder.toString();
+  }
+
+  // 자모 분해 ("라떼" → "ㄹㅏㄸㅔ")
+  static String decompose(String text) {
+    StringBuilder builder = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      char ch = text.charAt(i);
+      if (isSyllable(ch)) {
+        int offset = ch - SYLLABLE_BEGIN;
+        builder.append(CHOSUNG[offset / 588])
+            .append(JUNGSUNG[(offset % 588) / 28])
+            .append(JONGSUNG[offset % 28]);
+      } else {
+        int compound = COMPOUND_JAMO.indexOf(ch);
+        builder.append(compound >= 0 ? COMPOUND_JAMO_PARTS[compound] : String.valueOf(ch));
+      }
+    }
+    return builder.toString();
+  }
+
+  // 초성만 추출 ("아메리카노" → "ㅇㅁㄹㅋㄴ", 한글이 아닌 문자는 그대로)
+  static String chosung(String text) {
+    StringBuilder builder = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char ch = text.charAt(i);
+      builder.append(isSyllable(ch) ? CHOSUNG[(ch - SYLLABLE_BEGIN) / 588] : String.valueOf(ch));
+    }
+    return builder.toString();
+  }
+
+  // 자음(호환 자모)으로만 이루어진 입력인지 ("ㅇㅁㄹ")
+  static boolean isChosungOnly(String text) {
+    if (text.isEmpty()) {
+      return false;
+    }
+
+    for (int i = 0; i < text.length(); i++) {
+      char ch = text.charAt(i);
+      if (ch < 'ㄱ' || ch > 'ㅎ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSyllable(char ch) {
+    return ch >= SYLLABLE_BEGIN && ch <= SYLLABLE_END;
+  }
+}
@@ -0,0 +1,136 @@
+package likelion.kitalk.touch.catalog;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import likelion.kitalk.touch.entity.Menu;
+
+// menu 테이블의 불변 스냅샷 (버전별로 통째로 교체됨)
+public final class MenuCatalog {
+
+  private static final MenuCatalog EMPTY = new MenuCatalog(0L, "", new long[0], new Entry[0],
+      MenuCategoryIndex.of(new Entry[0]), MenuSearchIndex.of(new Entry[0]));
+
+  private final long version;
+  private final String fingerprint;
+
+  // id 오름차순 정렬 배열 - 이진 탐색으로 조회 (박싱 없는 long 키)
+  private final long[] ids;
+  private final Entry[] entries;
+
+  private final MenuCategoryIndex categoryIndex;
+  private final MenuSearchIndex searchIndex;
+
+  private MenuCatalog(long version, String fingerprint, long[] ids, Entry[] entries,
+      MenuCategoryIndex categoryIndex, MenuSearchIndex searchIndex) {
+    this.version = version;
+    this.fingerprint = fingerprint;
+    this.ids = ids;
+    this.entries = entries;
+    this.categoryIndex = categoryIndex;
+    this.searchIndex = searchIndex;
+  }
+
+  public static MenuCatalog empty() {
+    return EMPTY;
+  }
+
+  // Menu 엔티티 목록으로 스냅샷 생성
+  public static MenuCatalog of(long version, String fingerprint, List<Menu> menus) {
+    Entry[] sorted = menus.stream()
+        .filter(menu -> menu.getId() != null)
+        .map(Entry::from)
+        .sorted(Comparator.comparingLong(Entry::id))
+        .toArray(Entry[]::new);
+
+    long[] ids = new long[sorted.length];
+    for (int i = 0; i < sorted.length; i++) {
+      ids[i] = sorted[i].id();
+    }
+
+    return new MenuCatalog(version, fingerprint, ids, sorted,
+        MenuCategoryIndex.of(sorted), MenuSearchIndex.of(sorted));
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public MenuCategoryIndex getCategoryIndex() {
+    return categoryIndex;
+  }
+
+  public MenuSearchIndex getSearchIndex() {
+    return searchIndex;
+  }
+
+  public int size() {
+    return entries.length;
+  }
+
+  public boolean isEmpty() {
+    return entries.length == 0;
+  }
+
+  // 메뉴 조회 (비활성 메뉴 포함, 없으면 null)
+  public Entry find(long menuId) {
+    int index = Arrays.binarySearch(ids, menuId);
+    return index >= 0 ? entries[index] : null;
+  }
+
+  // 활성화된 메뉴만 조회 (없거나 비활성이면 null)
+  public Entry findActive(long menuId) {
+    Entry entry = find(menuId);
+    return entry != null && entry.active() ? entry : null;
+  }
+
+  // 전체 메뉴 (id 오름차순)
+  public List<Entry> entries() {
+    return Collections.unmodifiableList(Arrays.asList(entries));
+  }
+
+  // 활성화된 메뉴만 (id 오름차순)
+  public List<Entry> activeEntries() {
+    List<Entry> active = new ArrayList<>(entries.length);
+    for (Entry entry : entries) {
+      if (entry.active()) {
+        active.add(entry);
+      }
+    }
+    return active;
+  }
+
+  public record Entry(
+      long id,
+      String name,
+      String temperature,
+      int price,
+      String category,
+      boolean active,
+      boolean popular,
+      String profile,
+      LocalDateTime updatedAt
+  ) {
+
+    static Entry from(Menu menu) {
+      return new Entry(
+          menu.getId(),
+          menu.getName(),
+          menu.getTemperature(),
+          menu.getPrice() != null ? menu.getPrice() : 0,
+          menu.getCategory(),
+          Boolean.TRUE.equals(menu.getIsActive()),
+          Boolean.TRUE.equals(menu.getIsPopular()),
+          menu.getProfile(),
+          menu.getUpdatedAt()
+      );
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package likelion.kitalk.touch.catalog;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 카탈로그 버전 간 변경된 메뉴 id 기록 (최근 maxSize 개 구간만 보관)
+// - 스냅샷 교체 시 이전/다음 스냅샷을 비교해 추가/수정/비활성/삭제된 id를 남김
+public final class MenuCatalogChangeLog {
+
+  private final int maxSize;
+  private final Deque<Step> steps = new ArrayDeque<>();
+
+  public MenuCatalogChangeLog(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  // 스냅샷 교체 기록
+  public synchronized void record(MenuCatalog previous, MenuCatalog next) {
+    if (previous.getVersion() == 0) {
+      // 최초 적재는 비교 대상이 없으므로 기록 시작점만 잡음
+      steps.clear();
+      steps.addLast(new Step(next.getVersion(), next.getVersion(), new long[0]));
+      return;
+    }
+
+    steps.addLast(new Step(previous.getVersion(), next.getVersion(), diff(previous, next)));
+    while (steps.size() > maxSize) {
+      steps.removeFirst();
+    }
+  }
+
+  // since 이후 바뀐 메뉴 id (기록 범위를 벗어나면 empty → 전체 스냅샷 필요)
+  public synchronized Optional<Set<Long>> changedSince(long since) {
+    if (steps.isEmpty() || since < steps.peekFirst().fromVersion()) {
+      return Optional.empty();
+    }
+
+    Set<Long> changed = new TreeSet<>();
+    for (Step step : steps) {
+      if (step.toVersion() > since) {
+        for (long id : step.changedIds()) {
+          changed.add(id);
+        }
+      }
+    }
+    return Optional.of(changed);
+  }
+
+  // id 오름차순으로 정렬된 두 스냅샷을 병합하듯 한 번에 비교
+  private static long[] diff(MenuCatalog previous, MenuCatalog next) {
+    List<MenuCatalog.Entry> before = previous.entries();
+    List<MenuCatalog.Entry> after = next.entries();
+
+    long[] changed = new long[before.size() + after.size()];
+    int count = 0;
+    int i = 0;
+    int j = 0;
+
+    while (i < before.size() || j < after.size()) {
+      MenuCatalog.Entry left = i < before.size() ? before.get(i) : null;
+      MenuCatalog.Entry right = j < after.size() ? after.get(j) : null;
+
+      if (right == null || (left != null && left.id() < right.id())) {
+        changed[count++] = left.id();   // 삭제됨
+        i++;
+      } else if (left == null || right.id() < left.id()) {
+        changed[count++] = right.id();  // 추가됨
+        j++;
+      } else {
+        if (!Objects.equals(left, right)) {
+          changed[count++] = right.id();  // 수정/비활성화됨
+        }
+        i++;
+        j++;
+      }
+    }
+
+    long[] result = new long[count];
+    System.arraycopy(changed, 0, result, 0, count);
+    return result;
+  }
+
+  private record Step(long fromVersion, long toVersion, long[] changedIds) {
+  }
+}
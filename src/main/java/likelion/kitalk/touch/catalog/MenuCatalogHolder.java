@@ -0,0 +1,154 @@
+package likelion.kitalk.touch.catalog;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import likelion.kitalk.global.exception.CustomException;
+import likelion.kitalk.touch.entity.Menu;
+import likelion.kitalk.touch.exception.MenuErrorCode;
+import likelion.kitalk.touch.repository.MenuRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 메모리에 올려둔 메뉴 카탈로그 스냅샷 관리
+// - 장바구니 가격 계산, 메뉴 검증 등 핫패스는 MySQL 대신 current()를 사용
+// - menu 테이블 지문(fingerprint)이 바뀌면 새 스냅샷을 만들어 한 번에 교체
+// - 버전은 Redis에서 클러스터 공통으로 관리하고, 다른 노드의 변경은 pub/sub으로 수신
+// - 지문과 메뉴 목록은 프라이머리에서 한 트랜잭션으로 읽음 (레플리카 지연으로 지문과 내용이 어긋나지 않도록)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuCatalogHolder {
+
+  private final MenuRepository menuRepository;
+  private final MenuCatalogInvalidationBus invalidationBus;
+  private final PlatformTransactionManager transactionManager;
+
+  // 델타 동기화를 위해 보관할 최근 버전 구간 수
+  @Value("${kitalk.menu.catalog.changelog-size:64}")
+  private int changeLogSize;
+
+  private volatile MenuCatalog catalog = MenuCatalog.empty();
+  private MenuCatalogChangeLog changeLog;
+
+  @PostConstruct
+  void subscribe() {
+    changeLog = new MenuCatalogChangeLog(changeLogSize);
+    invalidationBus.subscribe(this::onRemoteVersion);
+  }
+
+  // 현재 스냅샷 조회 (아직 적재 전이면 동기 적재)
+  public MenuCatalog current() {
+    MenuCatalog snapshot = catalog;
+    if (snapshot.getVersion() > 0) {
+      return snapshot;
+    }
+
+    synchronized (this) {
+      if (catalog.getVersion() == 0) {
+        try {
+          reload(0L);
+        } catch (Exception e) {
+          log.error("메뉴 카탈로그 최초 적재 실패", e);
+          throw new CustomException(MenuErrorCode.DATABASE_ACCESS_ERROR);
+        }
+      }
+      return catalog;
+    }
+  }
+
+  // since 버전 이후 바뀐 메뉴 id (보관 범위를 벗어나면 empty)
+  public Optional<Set<Long>> changedSince(long since) {
+    return changeLog.changedSince(since);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    refreshIfChanged();
+  }
+
+  // menu 테이블 변경 감지 후 스냅샷 재생성 (DB를 직접 수정한 경우 대비)
+  @Scheduled(
+      fixedDelayString = "${kitalk.menu.catalog.refresh-interval-ms:30000}",
+      initialDelayString = "${kitalk.menu.catalog.refresh-interval-ms:30000}")
+  public void refreshIfChanged() {
+    try {
+      String fingerprint = menuRepository.findCatalogFingerprint();
+      if (Objects.equals(fingerprint, catalog.getFingerprint())) {
+        return;
+      }
+
+      synchronized (this) {
+        if (!Objects.equals(fingerprint, catalog.getFingerprint())) {
+          reload(0L);
+        }
+      }
+    } catch (Exception e) {
+      // 기존 스냅샷을 그대로 유지
+      log.warn("메뉴 카탈로그 갱신 실패 - 기존 버전 유지: {}", catalog.getVersion(), e);
+    }
+  }
+
+  // 다른 노드가 올린 버전 수신 시 즉시 재적재
+  void onRemoteVersion(long version) {
+    if (version <= catalog.getVersion()) {
+      return;
+    }
+
+    synchronized (this) {
+      if (version <= catalog.getVersion()) {
+        return;
+      }
+      try {
+        log.info("메뉴 카탈로그 무효화 수신 - version: {} → {}", catalog.getVersion(), version);
+        reload(version);
+      } catch (Exception e) {
+        log.warn("메뉴 카탈로그 무효화 처리 실패 - 기존 버전 유지: {}", catalog.getVersion(), e);
+      }
+    }
+  }
+
+  // 반드시 synchronized 블록 안에서 호출
+  private void reload(long announcedVersion) {
+    // 읽기 전용이 아닌 새 트랜잭션 → 프라이머리로 라우팅
+    // (호출한 쪽의 readOnly 트랜잭션에 참여하면 레플리카에서 읽게 되므로 REQUIRES_NEW)
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    transaction.setReadOnly(false);
+    Snapshot snapshot = transaction.execute(status ->
+        new Snapshot(menuRepository.findCatalogFingerprint(), menuRepository.findAll()));
+    long version = Math.max(announcedVersion, resolveVersion(snapshot.fingerprint()));
+
+    MenuCatalog previous = catalog;
+    MenuCatalog next = MenuCatalog.of(version, snapshot.fingerprint(), snapshot.menus());
+    changeLog.record(previous, next);
+    catalog = next;
+
+    log.info("메뉴 카탈로그 교체 완료 - version: {}, 메뉴 수: {}", next.getVersion(), next.size());
+  }
+
+  // 클러스터 공통 버전 결정 (Redis 장애 시 노드 로컬 버전으로 계속 증가)
+  private long resolveVersion(String fingerprint) {
+    long floor = catalog.getVersion();
+    try {
+      long version = invalidationBus.publishFingerprint(fingerprint, floor);
+      return version > floor ? version : floor + 1;
+    } catch (Exception e) {
+      log.warn("메뉴 카탈로그 버전 전파 실패 - 로컬 버전 사용: {}", floor + 1, e);
+      return floor + 1;
+    }
+  }
+
+  private record Snapshot(String fingerprint, List<Menu> menus) {
+  }
+}
@@ -0,0 +1,71 @@
+package likelion.kitalk.touch.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.LongConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+// 메뉴 카탈로그 버전 변경을 Redis pub/sub으로 모든 앱 노드에 전파
+// - menu_catalog:state 해시에 클러스터 공통 버전과 마지막 지문을 보관
+// - 지문이 바뀐 경우에만 버전을 올리고 같은 스크립트 안에서 PUBLISH (중복 증가 방지)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuCatalogInvalidationBus {
+
+  private static final String STATE_KEY = "menu_catalog:state";
+  private static final String CHANNEL = "menu_catalog:invalidate";
+
+  // KEYS[1]=state, ARGV[1]=지문, ARGV[2]=노드의 현재 버전(하한), ARGV[3]=채널
+  private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+      local state = redis.call('HMGET', KEYS[1], 'version', 'fingerprint')
+      local version = tonumber(state[1]) or 0
+      local floor = tonumber(ARGV[2])
+      if state[2] == ARGV[1] and version > 0 then
+        return version
+      end
+      version = redis.call('HINCRBY', KEYS[1], 'version', 1)
+      if version <= floor then
+        version = floor + 1
+        redis.call('HSET', KEYS[1], 'version', version)
+      end
+      redis.call('HSET', KEYS[1], 'fingerprint', ARGV[1])
+      redis.call('PUBLISH', ARGV[3], version)
+      return version
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  // 지문에 해당하는 클러스터 버전 조회 (바뀐 지문이면 버전 증가 + 전파)
+  public long publishFingerprint(String fingerprint, long floorVersion) {
+    Long version = redisTemplate.execute(BUMP_SCRIPT, List.of(STATE_KEY),
+        fingerprint, String.valueOf(floorVersion), CHANNEL);
+
+    if (version == null) {
+      throw new IllegalStateException("메뉴 카탈로그 버전 조회 결과 없음");
+    }
+    return version;
+  }
+
+  // 다른 노드의 버전 변경 구독
+  public void subscribe(LongConsumer listener) {
+    redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+      String body = new String(message.getBody(), StandardCharsets.UTF_8);
+      try {
+        listener.accept(Long.parseLong(body.trim()));
+      } catch (NumberFormatException e) {
+        log.warn("메뉴 카탈로그 무효화 메시지 형식 오류 - body: {}", body);
+      }
+    }, new ChannelTopic(CHANNEL));
+
+    log.info("메뉴 카탈로그 무효화 채널 구독 - channel: {}", CHANNEL);
+  }
+}
@@ -0,0 +1,99 @@
+package likelion.kitalk.touch.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 카탈로그 스냅샷에서 한 번의 순회로 만든 카테고리 색인 (스냅샷과 함께 교체됨)
+public final class MenuCategoryIndex {
+
+  // menu.category ENUM 선언 순서 (V1) - ORDER BY category 결과와 동일하게 정렬
+  private static final List<String> CATEGORY_ORDER = List.of(
+      "커피", "스무디", "버블티", "주스", "디저트", "기타 음료", "스페셜 티", "에이드", "차", "프라페", "특색 라떼"
+  );
+
+  private static final Comparator<MenuCatalog.Entry> BY_NAME_AND_TEMPERATURE =
+      Comparator.comparing(MenuCatalog.Entry::name)
+          .thenComparing(MenuCatalog.Entry::temperature);
+
+  private static final Comparator<MenuCatalog.Entry> BY_CATEGORY_NAME_AND_TEMPERATURE =
+      Comparator.comparingInt((MenuCatalog.Entry entry) -> categoryRank(entry.category()))
+          .thenComparing(BY_NAME_AND_TEMPERATURE);
+
+  // 카테고리별 활성 메뉴 (name, temperature 순)
+  private final Map<String, List<MenuCatalog.Entry>> menusByCategory;
+
+  // 전체 활성 메뉴 (category, name, temperature 순)
+  private final List<MenuCatalog.Entry> allMenus;
+
+  private MenuCategoryIndex(Map<String, List<MenuCatalog.Entry>> menusByCategory,
+      List<MenuCatalog.Entry> allMenus) {
+    this.menusByCategory = menusByCategory;
+    this.allMenus = allMenus;
+  }
+
+  static MenuCategoryIndex of(MenuCatalog.Entry[] entries) {
+    Map<String, List<MenuCatalog.Entry>> grouped = new HashMap<>();
+    List<MenuCatalog.Entry> all = new ArrayList<>(entries.length);
+
+    for (MenuCatalog.Entry entry : entries) {
+      if (!entry.active()) {
+        continue;
+      }
+      grouped.computeIfAbsent(entry.category(), key -> new ArrayList<>()).add(entry);
+      all.add(entry);
+    }
+
+    Map<String, List<MenuCatalog.Entry>> sorted = new HashMap<>();
+    grouped.forEach((category, menus) -> {
+      menus.sort(BY_NAME_AND_TEMPERATURE);
+      sorted.put(category, Collections.unmodifiableList(menus));
+    });
+    all.sort(BY_CATEGORY_NAME_AND_TEMPERATURE);
+
+    return new MenuCategoryIndex(sorted, Collections.unmodifiableList(all));
+  }
+
+  // 카테고리 메뉴 수
+  public int count(String category) {
+    return menus(category).size();
+  }
+
+  // 여러 카테고리 메뉴 수 합계
+  public int countIn(Collection<String> categories) {
+    int total = 0;
+    for (String category : categories) {
+      total += count(category);
+    }
+    return total;
+  }
+
+  // 카테고리 메뉴 목록 (name, temperature 순)
+  public List<MenuCatalog.Entry> menus(String category) {
+    return menusByCategory.getOrDefault(category, Collections.emptyList());
+  }
+
+  // 여러 카테고리 메뉴 목록 (name, temperature 순)
+  public List<MenuCatalog.Entry> menusIn(Collection<String> categories) {
+    List<MenuCatalog.Entry> merged = new ArrayList<>();
+    for (String category : categories) {
+      merged.addAll(menus(category));
+    }
+    merged.sort(BY_NAME_AND_TEMPERATURE);
+    return merged;
+  }
+
+  // 전체 활성 메뉴 목록 (category, name, temperature 순)
+  public List<MenuCatalog.Entry> allMenus() {
+    return allMenus;
+  }
+
+  private static int categoryRank(String category) {
+    int rank = CATEGORY_ORDER.indexOf(category);
+    return rank >= 0 ? rank : CATEGORY_ORDER.size();
+  }
+}
@@ -0,0 +1,260 @@
+package likelion.kitalk.touch.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 메뉴 이름 검색 색인 (카탈로그 스냅샷과 함께 만들어지고 교체됨)
+// - 정확 일치 > 이름 접두 > 자모 접두(입력 중간 상태) > 초성 접두 > 부분 일치 > 자모 bigram 유사도 순으로 점수화
+// - "따뜻한", "아이스" 같은 온도 표현은 검색어에서 떼어내 hot/ice 메뉴를 고르는 데 사용
+public final class MenuSearchIndex {
+
+  private static final int SCORE_EXACT = 100;
+  private static final int SCORE_PREFIX = 90;
+  private static final int SCORE_JAMO_PREFIX = 85;
+  private static final int SCORE_CHOSUNG_PREFIX = 80;
+  private static final int SCORE_CONTAINS = 70;
+  private static final int SCORE_CHOSUNG_CONTAINS = 60;
+  private static final int SCORE_FUZZY_MAX = 50;
+
+  // 자모 bigram Dice 계수가 이 값 미만이면 결과에서 제외
+  private static final double FUZZY_THRESHOLD = 0.5;
+
+  // 긴 표현부터 검사 ("따뜻하게"가 "따뜻한"보다 먼저)
+  private static final Map<String, String> TEMPERATURE_KEYWORDS = new LinkedHashMap<>();
+
+  static {
+    for (String keyword : List.of("따뜻하게", "따듯하게", "뜨겁게", "따뜻한", "따듯한", "뜨거운", "hot", "핫")) {
+      TEMPERATURE_KEYWORDS.put(keyword, "hot");
+    }
+    for (String keyword : List.of("시원하게", "차갑게", "아이스", "시원한", "차가운", "iced", "ice")) {
+      TEMPERATURE_KEYWORDS.put(keyword, "ice");
+    }
+  }
+
+  private static final Comparator<MenuCatalog.Entry> BY_TEMPERATURE =
+      Comparator.comparing(MenuCatalog.Entry::temperature);
+
+  private static final MenuSearchIndex EMPTY =
+      new MenuSearchIndex(new Document[0], Collections.emptyMap());
+
+  // 이름(공백 제거) 단위 문서 - hot/ice 변형은 한 문서로 묶음
+  private final Document[] documents;
+
+  // 자모 bigram → 해당 bigram을 가진 문서 번호
+  private final Map<Integer, int[]> postings;
+
+  private MenuSearchIndex(Document[] documents, Map<Integer, int[]> postings) {
+    this.documents = documents;
+    this.postings = postings;
+  }
+
+  static MenuSearchIndex of(MenuCatalog.Entry[] entries) {
+    Map<String, List<MenuCatalog.Entry>> byName = new LinkedHashMap<>();
+    for (MenuCatalog.Entry entry : entries) {
+      if (entry.active() && entry.name() != null) {
+        byName.computeIfAbsent(HangulJamo.normalize(entry.name()), key -> new ArrayList<>()).add(entry);
+      }
+    }
+    if (byName.isEmpty()) {
+      return EMPTY;
+    }
+
+    Document[] documents = new Document[byName.size()];
+    Map<Integer, List<Integer>> grouped = new HashMap<>();
+    int index = 0;
+    for (Map.Entry<String, List<MenuCatalog.Entry>> named : byName.entrySet()) {
+      List<MenuCatalog.Entry> variants = named.getValue();
+      variants.sort(BY_TEMPERATURE);
+
+      String name = named.getKey();
+      String jamo = HangulJamo.decompose(name);
+      int[] bigrams = bigrams(jamo);
+      documents[index] = new Document(name, jamo, HangulJamo.chosung(name), bigrams,
+          Collections.unmodifiableList(variants));
+
+      for (int bigram : bigrams) {
+        grouped.computeIfAbsent(bigram, key -> new ArrayList<>()).add(index);
+      }
+      index++;
+    }
+
+    Map<Integer, int[]> postings = new HashMap<>(grouped.size() * 2);
+    grouped.forEach((bigram, docs) ->
+        postings.put(bigram, docs.stream().mapToInt(Integer::intValue).toArray()));
+
+    return new MenuSearchIndex(documents, postings);
+  }
+
+  // 검색어로 메뉴 검색 (점수 높은 순, 최대 limit개)
+  public Result search(String query, int limit) {
+    String normalized = HangulJamo.normalize(query);
+    String temperature = null;
+    String keyword = normalized;
+
+    // 메뉴 이름 자체가 온도 표현을 포함하는 경우("핫초코")는 떼어내지 않음
+    if (!isExactName(normalized)) {
+      for (Map.Entry<String, String> candidate : TEMPERATURE_KEYWORDS.entrySet()) {
+        String stripped = strip(normalized, candidate.getKey());
+        if (stripped != null) {
+          temperature = candidate.getValue();
+          keyword = stripped;
+          break;
+        }
+      }
+    }
+
+    if (keyword.isEmpty() || documents.length == 0 || limit <= 0) {
+      return new Result(keyword, temperature, Collections.emptyList());
+    }
+
+    int[] scores = score(keyword);
+    Integer[] order = new Integer[documents.length];
+    int matched = 0;
+    for (int i = 0; i < documents.length; i++) {
+      if (scores[i] > 0) {
+        order[matched++] = i;
+      }
+    }
+
+    Arrays.sort(order, 0, matched, Comparator
+        .comparingInt((Integer i) -> -scores[i])
+        .thenComparingInt(i -> documents[i].name().length())
+        .thenComparing(i -> documents[i].name()));
+
+    List<MenuCatalog.Entry> menus = new ArrayList<>();
+    for (int i = 0; i < matched && menus.size() < limit; i++) {
+      for (MenuCatalog.Entry variant : documents[order[i]].select(temperature)) {
+        if (menus.size() >= limit) {
+          break;
+        }
+        menus.add(variant);
+      }
+    }
+
+    return new Result(keyword, temperature, menus);
+  }
+
+  private int[] score(String keyword) {
+    int[] scores = new int[documents.length];
+    boolean chosungOnly = HangulJamo.isChosungOnly(keyword);
+    String keywordJamo = HangulJamo.decompose(keyword);
+    boolean lexicalMatch = false;
+
+    for (int i = 0; i < documents.length; i++) {
+      Document document = documents[i];
+      if (document.name().equals(keyword)) {
+        scores[i] = SCORE_EXACT;
+      } else if (document.name().startsWith(keyword)) {
+        scores[i] = SCORE_PREFIX;
+      } else if (document.jamo().startsWith(keywordJamo)) {
+        scores[i] = SCORE_JAMO_PREFIX;
+      } else if (chosungOnly && document.chosung().startsWith(keyword)) {
+        scores[i] = SCORE_CHOSUNG_PREFIX;
+      } else if (document.name().contains(keyword)) {
+        scores[i] = SCORE_CONTAINS;
+      } else if (chosungOnly && document.chosung().contains(keyword)) {
+        scores[i] = SCORE_CHOSUNG_CONTAINS;
+      }
+      lexicalMatch |= scores[i] > 0;
+    }
+
+    // 글자 그대로 맞는 메뉴가 있으면 유사도 후보는 섞지 않음
+    if (chosungOnly || lexicalMatch) {
+      return scores;
+    }
+
+    // 오타/발음 차이 대응 - 공유하는 자모 bigram 수를 역색인으로 집계
+    int[] keywordBigrams = bigrams(keywordJamo);
+    if (keywordBigrams.length == 0) {
+      return scores;
+    }
+
+    int[] shared = new int[documents.length];
+    for (int bigram : keywordBigrams) {
+      int[] docs = postings.get(bigram);
+      if (docs != null) {
+        for (int doc : docs) {
+          shared[doc]++;
+        }
+      }
+    }
+
+    for (int i = 0; i < documents.length; i++) {
+      if (shared[i] == 0) {
+        continue;
+      }
+      double dice = 2.0 * shared[i] / (keywordBigrams.length + documents[i].bigrams().length);
+      if (dice >= FUZZY_THRESHOLD) {
+        scores[i] = Math.max(1, (int) Math.round(dice * SCORE_FUZZY_MAX));
+      }
+    }
+    return scores;
+  }
+
+  private boolean isExactName(String normalized) {
+    for (Document document : documents) {
+      if (document.name().equals(normalized)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // 검색어 앞/뒤에 붙은 온도 표현 제거 (없으면 null)
+  private static String strip(String text, String keyword) {
+    if (text.startsWith(keyword)) {
+      return text.substring(keyword.length());
+    }
+    if (text.endsWith(keyword)) {
+      return text.substring(0, text.length() - keyword.length());
+    }
+    return null;
+  }
+
+  // 중복 없는 자모 bigram (두 글자를 int 하나로 묶어 정렬)
+  private static int[] bigrams(String jamo) {
+    if (jamo.length() < 2) {
+      return new int[0];
+    }
+
+    int[] bigrams = new int[jamo.length() - 1];
+    for (int i = 0; i < bigrams.length; i++) {
+      bigrams[i] = (jamo.charAt(i) << 16) | jamo.charAt(i + 1);
+    }
+    return Arrays.stream(bigrams).distinct().sorted().toArray();
+  }
+
+  private record Document(
+      String name,
+      String jamo,
+      String chosung,
+      int[] bigrams,
+      List<MenuCatalog.Entry> variants
+  ) {
+
+    // 요청 온도와 맞는 변형만 (해당 온도가 없으면 전체 변형을 돌려 선택지를 안내)
+    List<MenuCatalog.Entry> select(String temperature) {
+      if (temperature == null) {
+        return variants;
+      }
+
+      List<MenuCatalog.Entry> matched = new ArrayList<>(variants.size());
+      for (MenuCatalog.Entry variant : variants) {
+        if (temperature.equals(variant.temperature()) || "none".equals(variant.temperature())) {
+          matched.add(variant);
+        }
+      }
+      return matched.isEmpty() ? variants : matched;
+    }
+  }
+
+  // keyword: 온도 표현을 뗀 검색어, temperature: 인식된 온도(hot/ice, 없으면 null)
+  public record Result(String keyword, String temperature, List<MenuCatalog.Entry> menus) {
+  }
+}
@@ -3,15 +3,18 @@ package likelion.kitalk.touch.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import likelion.kitalk.global.exception.CustomException;
 import likelion.kitalk.touch.dto.request.CartAddRequest;
+import likelion.kitalk.touch.dto.request.CartBatchRequest;
 import likelion.kitalk.touch.dto.request.CartRemoveRequest;
 import likelion.kitalk.touch.dto.request.CartUpdateRequest;
 import likelion.kitalk.touch.dto.request.PackagingRequest;
 import likelion.kitalk.touch.service.CartService;
+import likelion.kitalk.touch.service.CartStreamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -23,6 +26,7 @@ import java.util.Map;
 public class CartController {
 
   private final CartService cartService;
+  private final CartStreamService cartStreamService;
 
   @Operation(
       summary = "메뉴 추가"
@@ -105,6 +109,33 @@ public class CartController {
     }
   }
 
+  @Operation(
+      summary = "장바구니 일괄 변경 (담기/삭제/수량 변경/포장 방식을 한 번에)"
+  )
+
+  @PostMapping("/{sessionId}/batch")
+  public ResponseEntity<Map<String, Object>> applyBatch(@PathVariable("sessionId") String sessionId, @RequestBody CartBatchRequest request) {
+    log.info("장바구니 일괄 변경 API 호출 - sessionId: {}, 동작 수: {}",
+        sessionId, request.getOperations() != null ? request.getOperations().size() : 0);
+
+    try {
+      Map<String, Object> response = cartService.applyBatch(sessionId, request);
+
+      log.info("장바구니 일괄 변경 API 성공 - sessionId: {}", sessionId);
+      return ResponseEntity.ok(response);
+
+    } catch (CustomException e) {
+      log.warn("장바구니 일괄 변경 API 실패 - sessionId: {}, error: {}",
+          sessionId, e.getMessage());
+      return createErrorResponse(e.getErrorCode().getStatus(), e.getMessage());
+
+    } catch (Exception e) {
+      log.error("장바구니 일괄 변경 API 예상치 못한 오류 - sessionId: {}",
+          sessionId, e);
+      return createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "장바구니 일괄 변경 중 오류가 발생했습니다");
+    }
+  }
+
   @Operation(
       summary = "장바구니 전체 지우기"
   )
@@ -153,6 +184,19 @@ public class CartController {
     }
   }
 
+  @Operation(
+      summary = "장바구니 실시간 스트림 (SSE)",
+      description = "연결 직후 현재 장바구니, 이후 장바구니/포장 방식이 바뀔 때마다 cart 이벤트로 변경 후 장바구니 전송"
+  )
+
+  // 오류는 스트림을 열기 전에 GlobalExceptionHandler로 처리 (SseEmitter 반환 타입이라 에러 Map을 돌려줄 수 없음)
+  @GetMapping("/{sessionId}/stream")
+  public SseEmitter streamCart(@PathVariable("sessionId") String sessionId) {
+    log.info("장바구니 스트림 API 호출 - sessionId: {}", sessionId);
+
+    return cartStreamService.open(sessionId);
+  }
+
   @Operation(
       summary = "포장 방식 설정"
   )
@@ -1,16 +1,26 @@
 package likelion.kitalk.touch.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import java.time.Duration;
 import java.util.List;
 import likelion.kitalk.global.dto.BaseResponse;
-import likelion.kitalk.touch.dto.response.CategoryResponse;
-import likelion.kitalk.touch.dto.response.MenuResponse;
+import likelion.kitalk.touch.cache.MenuResponseCache;
+import likelion.kitalk.touch.cache.MenuResponseCache.RenderedBody;
+import likelion.kitalk.touch.dto.response.MenuChangesResponse;
+import likelion.kitalk.touch.dto.response.MenuSearchResponse;
+import likelion.kitalk.touch.dto.response.TrendingMenuResponse;
 import likelion.kitalk.touch.service.MenuService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,44 +32,162 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class MenuController {
 
+  private final MenuResponseCache menuResponseCache;
   private final MenuService menuService;
 
+  // 메뉴 목록은 가격 변경이 빨리 반영되어야 하므로 짧게, 카테고리 목록은 길게 캐시
+  @Value("${kitalk.menu.cache.list-max-age-seconds:30}")
+  private long listMaxAgeSeconds;
+
+  @Value("${kitalk.menu.cache.categories-max-age-seconds:300}")
+  private long categoriesMaxAgeSeconds;
+
   @Operation(
       summary = "카테고리 음료 목록 조회"
   )
 
-  // 메뉴 리스트 조회
+  // 메뉴 리스트 조회 (미리 직렬화된 BaseResponse<List<MenuResponse>> 본문)
   @GetMapping("/list")
-  public ResponseEntity<BaseResponse<List<MenuResponse>>> getMenuList(
-      @RequestParam(required = false) String category) {
+  public ResponseEntity<byte[]> getMenuList(
+      @RequestParam(required = false) String category,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
     log.info("메뉴 리스트 조회 API 호출 - category: {}", category);
 
-    BaseResponse<List<MenuResponse>> response = menuService.getMenuList(category);
+    // 잘못된 카테고리는 If-None-Match가 맞아도 304가 아니라 400
+    menuService.validateCategory(category);
 
-    if (response.isSuccess()) {
-      return ResponseEntity.ok(response);
-    } else {
-      return ResponseEntity.badRequest().body(response);
+    CacheControl cacheControl = revalidating(listMaxAgeSeconds);
+    String eTag = menuResponseCache.menuListETag();
+    if (isNotModified(ifNoneMatch, eTag)) {
+      log.debug("메뉴 리스트 변경 없음 (304) - category: {}, eTag: {}", category, eTag);
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
     }
+
+    return renderedResponse(menuResponseCache.menuList(category), acceptEncoding, cacheControl);
   }
 
   @Operation(
       summary = "카테고리 목록 및 수량 조회"
   )
 
-  // 카테고리 목록 조회
+  // 카테고리 목록 조회 (미리 직렬화된 BaseResponse<List<CategoryResponse>> 본문)
   @GetMapping("/categories")
-  public ResponseEntity<BaseResponse<List<CategoryResponse>>> getCategoryList() {
+  public ResponseEntity<byte[]> getCategoryList(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
     log.info("카테고리 목록 조회 API 호출");
 
-    BaseResponse<List<CategoryResponse>> response = menuService.getCategoryList();
+    CacheControl cacheControl = revalidating(categoriesMaxAgeSeconds);
+    String eTag = menuResponseCache.categoryListETag();
+    if (isNotModified(ifNoneMatch, eTag)) {
+      log.debug("카테고리 목록 변경 없음 (304) - eTag: {}", eTag);
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+    }
+
+    return renderedResponse(menuResponseCache.categoryList(), acceptEncoding, cacheControl);
+  }
+
+  @Operation(
+      summary = "메뉴 변경분 조회",
+      description = "since 버전 이후 추가/수정/비활성화된 메뉴만 반환 (범위를 벗어나면 전체 목록)"
+  )
+
+  // 메뉴 변경분 조회 (델타 동기화)
+  @GetMapping("/changes")
+  public ResponseEntity<BaseResponse<MenuChangesResponse>> getMenuChanges(
+      @RequestParam(required = false) Long since) {
+
+    log.info("메뉴 변경분 조회 API 호출 - since: {}", since);
+
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .body(menuService.getMenuChanges(since));
+  }
+
+  @Operation(
+      summary = "메뉴 검색",
+      description = "메뉴 이름 검색 (초성, 입력 중인 글자, 오타 허용 / '따뜻한', '아이스' 등 온도 표현 인식)"
+  )
+
+  // 메뉴 검색
+  @GetMapping("/search")
+  public ResponseEntity<BaseResponse<MenuSearchResponse>> searchMenus(
+      @RequestParam String query,
+      @RequestParam(defaultValue = "10") int limit) {
+
+    log.info("메뉴 검색 API 호출 - query: {}, limit: {}", query, limit);
+
+    return ResponseEntity.ok(menuService.searchMenus(query, limit));
+  }
+
+  @Operation(
+      summary = "실시간 인기 메뉴 조회",
+      description = "최근 판매량(시간 감쇠 적용) 기준 상위 메뉴"
+  )
+
+  // 인기 메뉴 조회
+  @GetMapping("/trending")
+  public ResponseEntity<BaseResponse<List<TrendingMenuResponse>>> getTrendingMenus() {
+
+    log.info("인기 메뉴 조회 API 호출");
+
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .body(menuService.getTrendingMenus());
+  }
+
+  // 캐시된 바이트를 그대로 응답 (gzip 허용 시 압축본 사용)
+  private ResponseEntity<byte[]> renderedResponse(RenderedBody body, String acceptEncoding,
+      CacheControl cacheControl) {
+
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(body.eTag())
+        .cacheControl(cacheControl)
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+    if (body.hasGzip() && acceptsGzip(acceptEncoding)) {
+      return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+    }
+    return builder.body(body.identity());
+  }
+
+  private boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    for (String candidate : acceptEncoding.split(",")) {
+      String[] parts = candidate.trim().split(";");
+      if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+        return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
+  private CacheControl revalidating(long maxAgeSeconds) {
+    return CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic().mustRevalidate();
+  }
+
+  // If-None-Match 비교 (약한 비교 - W/ 접두사 무시)
+  private boolean isNotModified(String ifNoneMatch, String eTag) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+      return false;
+    }
 
-    if (response.isSuccess()) {
-      return ResponseEntity.ok(response);
-    } else {
-      return ResponseEntity.badRequest().body(response);
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if ("*".equals(tag) || eTag.equals(tag)) {
+        return true;
+      }
     }
+    return false;
   }
-}
\ No newline at end of file
+}
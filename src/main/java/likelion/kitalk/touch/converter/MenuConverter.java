@@ -3,16 +3,22 @@ package likelion.kitalk.touch.converter;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import likelion.kitalk.touch.catalog.MenuCatalog;
 import likelion.kitalk.touch.dto.response.CategoryResponse;
 import likelion.kitalk.touch.dto.response.MenuResponse;
 import likelion.kitalk.touch.entity.Menu;
+import likelion.kitalk.touch.service.MenuTrendingService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class MenuConverter {
 
+  private final MenuTrendingService menuTrendingService;
+
   // Menu Entity MenuResponse로 반환
   public MenuResponse toResponse(Menu menu) {
     if (menu == null) {
@@ -42,6 +48,42 @@ public class MenuConverter {
         .collect(Collectors.toList());
   }
 
+  // 카탈로그 메뉴를 MenuResponse로 변환
+  public MenuResponse toResponse(MenuCatalog.Entry entry) {
+    if (entry == null) {
+      return null;
+    }
+
+    return MenuResponse.builder()
+        .id(entry.id())
+        .name(entry.name())
+        .temperature(entry.temperature())
+        .price(entry.price())
+        .category(entry.category())
+        .isActive(entry.active())
+        .profile(entry.profile())
+        .popular(menuTrendingService.isPopular(entry))
+        .build();
+  }
+
+  // 카탈로그 메뉴 리스트를 MenuResponse 리스트로 변환
+  public List<MenuResponse> toEntryResponseList(List<MenuCatalog.Entry> entries) {
+    if (entries == null || entries.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    return entries.stream()
+        .map(this::toResponse)
+        .collect(Collectors.toList());
+  }
+
+  public CategoryResponse toCategoryResponse(String categoryName, int menuCount) {
+    return CategoryResponse.builder()
+        .name(categoryName)
+        .menuCount(menuCount)
+        .build();
+  }
+
   public CategoryResponse toCategoryResponse(String categoryName, List<Menu> menus) {
     if (menus == null || menus.isEmpty()) {
       return CategoryResponse.builder()
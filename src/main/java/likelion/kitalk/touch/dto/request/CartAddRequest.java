@@ -12,4 +12,5 @@ import lombok.NoArgsConstructor;
 public class CartAddRequest {
   private Long menuId;
   private Integer quantity;
+  private Long version;   // 마지막으로 받은 장바구니 버전 (선택 - 다르면 409)
 }
\ No newline at end of file
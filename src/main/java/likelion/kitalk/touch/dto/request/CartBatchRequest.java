@@ -0,0 +1,27 @@
+package likelion.kitalk.touch.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartBatchRequest {
+  private List<CartBatchOperation> operations;   // 순서대로 적용
+  private Long version;   // 마지막으로 받은 장바구니 버전 (선택 - 다르면 409)
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class CartBatchOperation {
+    private String type;            // add, remove, set, packaging
+    private Long menuId;            // add, remove, set
+    private Integer quantity;       // add (1 이상), set (0이면 삭제)
+    private String packagingType;   // packaging
+  }
+}
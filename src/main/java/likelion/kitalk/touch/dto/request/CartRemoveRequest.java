@@ -11,4 +11,5 @@ import lombok.NoArgsConstructor;
 @Builder
 public class CartRemoveRequest {
   private Long menuId;
+  private Long version;   // 마지막으로 받은 장바구니 버전 (선택 - 다르면 409)
 }
\ No newline at end of file
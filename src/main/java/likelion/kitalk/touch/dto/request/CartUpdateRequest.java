@@ -12,6 +12,7 @@ import java.util.List;
 @Builder
 public class CartUpdateRequest {
   private List<CartUpdateItem> orders;
+  private Long version;   // 마지막으로 받은 장바구니 버전 (선택 - 다르면 409)
   
   @Data
   @NoArgsConstructor
@@ -18,4 +18,5 @@ public class CartResponse {
   private Integer total_price;
   private String packaging;
   private String session_id;
+  private Long version;   // 장바구니 버전 (변경 요청 시 그대로 보내면 중복 적용 방지)
 }
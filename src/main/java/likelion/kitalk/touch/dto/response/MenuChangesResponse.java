@@ -0,0 +1,18 @@
+package likelion.kitalk.touch.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuChangesResponse {
+  private Long version;               // 응답 기준 카탈로그 버전 (다음 요청의 since)
+  private boolean fullSnapshot;       // true면 updated가 전체 메뉴 목록 (로컬 캐시 교체)
+  private List<MenuResponse> updated; // 추가/수정된 활성 메뉴
+  private List<Long> removed;         // 비활성화/삭제된 메뉴 id
+}
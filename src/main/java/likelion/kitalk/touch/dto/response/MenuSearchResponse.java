@@ -0,0 +1,18 @@
+package likelion.kitalk.touch.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuSearchResponse {
+  private String query;             // 요청 검색어
+  private String keyword;           // 온도 표현을 뗀 실제 검색어
+  private String temperature;       // 인식된 온도 (hot/ice, 없으면 null)
+  private List<MenuResponse> menus; // 관련도 순 검색 결과
+}
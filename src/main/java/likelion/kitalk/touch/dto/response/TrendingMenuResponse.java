@@ -0,0 +1,16 @@
+package likelion.kitalk.touch.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingMenuResponse {
+  private Integer rank;       // 1부터 시작
+  private Double score;       // 시간 감쇠를 적용한 최근 판매 수량
+  private MenuResponse menu;
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -42,4 +43,7 @@ public class Menu {
 
   @Column(name = "profile", length = 500)
   private String profile;  // AWS S3 이미지 URL
+
+  @Column(name = "updated_at", insertable = false, updatable = false)
+  private LocalDateTime updatedAt;  // DB에서 자동 갱신 (ON UPDATE CURRENT_TIMESTAMP)
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ public enum CartErrorCode implements BaseErrorCode {
   // 장바구니 관련 에러
   CART_ITEM_NOT_FOUND("C006", "장바구니에서 해당 메뉴를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
   CART_IS_EMPTY("C007", "장바구니가 비어있습니다.", HttpStatus.NOT_FOUND),
+  CART_VERSION_CONFLICT("C015", "장바구니가 다른 요청으로 변경되었습니다. 다시 조회해주세요.", HttpStatus.CONFLICT),
+  INVALID_BATCH_OPERATION("C016", "유효하지 않은 일괄 변경 요청입니다.", HttpStatus.BAD_REQUEST),
 
   // Redis 관련 에러
   CART_UPDATE_FAILED("C008", "장바구니 업데이트 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
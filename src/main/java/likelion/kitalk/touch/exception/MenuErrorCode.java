@@ -14,6 +14,7 @@ public enum MenuErrorCode implements BaseErrorCode {
 
   // 메뉴 관련 에러
   MENU_NOT_FOUND("M006", "메뉴를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+  INVALID_SEARCH_KEYWORD("M007", "검색어를 입력해주세요.", HttpStatus.BAD_REQUEST),
 
   // 서버 에러
   MENU_LIST_FETCH_ERROR("M003", "메뉴 목록 조회 중 서버 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -21,6 +21,7 @@ public enum PhoneErrorCode implements BaseErrorCode {
     NO_ITEMS_TO_ORDER("P006", "주문할 메뉴가 없습니다.", HttpStatus.BAD_REQUEST),
     PACKAGING_TYPE_NOT_SET("P007", "포장 방식이 설정되지 않았습니다.", HttpStatus.BAD_REQUEST),
     ORDER_ALREADY_COMPLETED("P008", "이미 완료된 주문입니다.", HttpStatus.CONFLICT),
+    ORDER_IN_PROGRESS("P014", "주문을 처리하고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
     
     // 데이터 처리 에러
     PHONE_DATA_SAVE_FAILED("P009", "전화번호 저장 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -0,0 +1,89 @@
+package likelion.kitalk.touch.order;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// 세션별 주문 완료 잠금 (SET NX PX + fencing token)
+// - 같은 세션의 주문 완료가 동시에 들어오면 하나만 잠금을 얻고 나머지는 바로 거절 (DB 조회 없음)
+// - 잠금 값은 전역으로 증가하는 토큰, 주문 접수 스크립트가 잠금 값이 그대로인지 다시 확인
+//   → 처리가 늦어져 잠금이 만료되고 다른 요청이 잠금을 얻었으면 늦은 요청은 접수되지 않음
+// - 접수에 성공하면 접수 스크립트가 잠금을 지우고, 실패하면 release로 해제 (내 토큰일 때만)
+// - Redis 장애로 잠금을 얻지 못하면 주문 완료도 진행하지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CheckoutLock {
+
+  private static final String LOCK_KEY_PREFIX = "checkout_lock:";
+  // 세션 잠금 키(checkout_lock:{sessionId})와 겹치지 않도록 별도 이름
+  private static final String FENCE_KEY = "checkout_fence_seq";
+
+  // KEYS[1]=잠금, KEYS[2]=토큰 시퀀스, ARGV[1]=잠금 유지 시간(ms) → 잠금을 얻으면 토큰, 이미 잠겨 있으면 0
+  private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+      local token = redis.call('INCR', KEYS[2])
+      if redis.call('SET', KEYS[1], token, 'NX', 'PX', tonumber(ARGV[1])) then
+        return token
+      end
+      return 0
+      """, Long.class);
+
+  // KEYS[1]=잠금, ARGV[1]=토큰 → 내 토큰일 때만 삭제
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  // 잠금 유지 시간 (주문 완료 처리가 이보다 오래 걸리면 접수 시 거절)
+  @Value("${kitalk.order.checkout-lock-ms:10000}")
+  private long leaseMs;
+
+  // 잠금 시도 → 얻으면 Lease, 다른 요청이 처리 중이면 null
+  public Lease acquire(String sessionId) {
+    Long token = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(keyOf(sessionId), FENCE_KEY), String.valueOf(leaseMs));
+    if (token == null) {
+      throw new IllegalStateException("주문 잠금 스크립트 결과 없음");
+    }
+    if (token == 0L) {
+      return null;
+    }
+    return new Lease(sessionId, keyOf(sessionId), token, System.nanoTime());
+  }
+
+  // 접수하지 못했을 때 잠금 해제 (다른 요청의 잠금은 건드리지 않음), 잠금 유지 시간(ms) 반환
+  public long release(Lease lease) {
+    try {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(lease.key()), String.valueOf(lease.token()));
+    } catch (Exception e) {
+      log.warn("주문 잠금 해제 실패 - sessionId: {}, 유지 시간이 지나면 자동 해제", lease.sessionId(), e);
+    }
+    return held(lease);
+  }
+
+  // 잠금을 얻은 뒤 지난 시간(ms) (유지 시간의 절반을 넘으면 경고)
+  public long held(Lease lease) {
+    long heldMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lease.acquiredAt());
+    if (heldMs > leaseMs / 2) {
+      log.warn("주문 잠금 유지 시간 김 - sessionId: {}, {}ms / {}ms", lease.sessionId(), heldMs, leaseMs);
+    }
+    return heldMs;
+  }
+
+  private static String keyOf(String sessionId) {
+    return LOCK_KEY_PREFIX + sessionId;
+  }
+
+  // key: 잠금 키, token: fencing token, acquiredAt: 잠금을 얻은 시각(System.nanoTime)
+  public record Lease(String sessionId, String key, long token, long acquiredAt) {
+  }
+}
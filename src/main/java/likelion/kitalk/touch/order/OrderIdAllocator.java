@@ -0,0 +1,80 @@
+package likelion.kitalk.touch.order;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// 주문 번호 발급 (hi/lo)
+// - order:id_seq를 INCRBY로 block-size만큼 올려 번호 묶음을 예약하고, 묶음 안의 번호는 메모리에서 잠금 없이 발급
+// - 노드마다 다른 묶음을 받으므로 노드 간에도 번호가 겹치지 않음 (대신 노드 간 발급 순서와 번호 순서는 다를 수 있음)
+// - 노드가 재시작되면 쓰지 않은 번호는 건너뜀 (주문 번호에 빈 번호가 생길 수 있음)
+// - 기동 시 orders 테이블의 최대 id 이상으로 시퀀스를 맞춘 뒤부터 발급
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIdAllocator {
+
+  private static final String SEQUENCE_KEY = "order:id_seq";
+
+  // KEYS[1]=시퀀스, ARGV[1]=하한 → 현재 값이 하한보다 작으면 올림
+  private static final RedisScript<Long> RAISE_SEQUENCE_SCRIPT = new DefaultRedisScript<>("""
+      local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+      if current < tonumber(ARGV[1]) then
+        redis.call('SET', KEYS[1], ARGV[1])
+        return tonumber(ARGV[1])
+      end
+      return current
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  // 한 번에 예약하는 주문 번호 수
+  @Value("${kitalk.order.id-block-size:20}")
+  private int blockSize;
+
+  private volatile Block block;
+
+  // 다음 주문 번호 (묶음을 다 쓰면 새 묶음 예약)
+  public long next() {
+    while (true) {
+      Block current = block;
+      if (current != null) {
+        long id = current.next().getAndIncrement();
+        if (id <= current.last()) {
+          return id;
+        }
+      }
+      reserve(current);
+    }
+  }
+
+  // 주문 번호 시퀀스를 floor 이상으로 (이미 MySQL에 있는 번호와 겹치지 않도록)
+  public long raiseSequence(long floor) {
+    Long current = redisTemplate.execute(RAISE_SEQUENCE_SCRIPT, List.of(SEQUENCE_KEY), String.valueOf(floor));
+    return current != null ? current : floor;
+  }
+
+  // 다 쓴 묶음을 본 스레드 중 하나만 새 묶음을 예약 (나머지는 기다렸다가 새 묶음에서 발급)
+  private synchronized void reserve(Block exhausted) {
+    if (block != exhausted) {
+      return;
+    }
+
+    Long last = redisTemplate.opsForValue().increment(SEQUENCE_KEY, blockSize);
+    if (last == null) {
+      throw new IllegalStateException("주문 번호 예약 결과 없음");
+    }
+
+    block = new Block(new AtomicLong(last - blockSize + 1), last);
+    log.info("주문 번호 묶음 예약 - {} ~ {}", last - blockSize + 1, last);
+  }
+
+  private record Block(AtomicLong next, long last) {
+  }
+}
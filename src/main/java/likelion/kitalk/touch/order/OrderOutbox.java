@@ -0,0 +1,180 @@
+package likelion.kitalk.touch.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import likelion.kitalk.touch.cart.RedisCartStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.stereotype.Component;
+
+// 주문 outbox (Redis Stream)
+// - order_outbox 스트림 항목: { order_id, session_id, order: PendingOrder JSON }
+// - 접수는 세션 완료 표시와 같은 스크립트에서 추가 → 주문 번호를 받은 주문은 스트림에 반드시 있음
+// - OrderOutboxWriter가 소비자 그룹으로 읽어 MySQL에 쓰고 ACK + 삭제 (쓰기 전 노드가 죽으면 다른 노드가 넘겨받음)
+// - 여러 번 저장에 실패한 주문은 order_outbox:dead로 옮김 (XPENDING 전달 횟수 기준)
+// - 주문 번호는 OrderIdAllocator가 미리 예약해 둔 묶음에서 발급 (접수 스크립트는 받은 번호를 그대로 기록)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderOutbox {
+
+  static final String STREAM_KEY = "order_outbox";
+  static final String DEAD_LETTER_KEY = "order_outbox:dead";
+  static final String GROUP = "order_writers";
+
+  private static final String ORDER_ID_FIELD = "order_id";
+  private static final String SESSION_ID_FIELD = "session_id";
+  private static final String ORDER_FIELD = "order";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisCartStore cartStore;
+  private final OrderIdAllocator orderIdAllocator;
+  private final ObjectMapper objectMapper;
+
+  // 주문 접수 (세션 완료 표시 + 주문 전화번호 저장 + 스트림 추가 + 잠금 해제를 한 번에)
+  // 이미 완료된 세션이면 completed = true, 잠금을 잃었으면 fenced = true
+  public RedisCartStore.Checkout append(String sessionId, long cartVersion, PendingOrder order, Duration keepSession,
+      CheckoutLock.Lease lease) throws JsonProcessingException {
+    String orderJson = objectMapper.writeValueAsString(order);
+    return cartStore.checkout(sessionId, cartVersion, STREAM_KEY, lease.key(), lease.token(),
+        orderIdAllocator.next(), orderJson, order.phoneNumber(), keepSession);
+  }
+
+  // 소비자 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+  public void createGroup() {
+    try {
+      redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+          .xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+    } catch (DataAccessException e) {
+      String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+      if (message == null || !message.contains("BUSYGROUP")) {
+        throw e;
+      }
+    }
+  }
+
+  // 이 소비자가 받아 두고 아직 ACK하지 않은 주문 (이전 시도에서 실패한 주문 재시도용)
+  public List<Entry> readPending(String consumer, int count) {
+    return read(consumer, count, ReadOffset.from("0"));
+  }
+
+  // 아직 아무 소비자도 받지 않은 새 주문
+  public List<Entry> readNew(String consumer, int count) {
+    return read(consumer, count, ReadOffset.lastConsumed());
+  }
+
+  // 이 소비자가 받아 둔 주문별 전달 횟수 (readPending과 같은 앞쪽 count개)
+  public Map<RecordId, Long> deliveryCounts(String consumer, int count) {
+    PendingMessages pending = redisTemplate.opsForStream()
+        .pending(STREAM_KEY, Consumer.from(GROUP, consumer), Range.unbounded(), count);
+
+    Map<RecordId, Long> counts = new HashMap<>();
+    for (PendingMessage message : pending) {
+      counts.put(message.getId(), message.getTotalDeliveryCount());
+    }
+    return counts;
+  }
+
+  // minIdle 넘게 처리되지 않은 다른 소비자(죽은 노드)의 주문을 최대 count개 넘겨받음
+  // (전체 PEL 앞쪽만 보면 이 노드의 미처리 주문에 가려질 수 있으므로 소비자별로 조회)
+  public int claimIdle(String consumer, Duration minIdle, int count) {
+    StreamOperations<String, Object, Object> streams = redisTemplate.opsForStream();
+    PendingMessagesSummary summary = streams.pending(STREAM_KEY, GROUP);
+    if (summary == null || summary.getTotalPendingMessages() == 0) {
+      return 0;
+    }
+
+    int claimed = 0;
+    for (Map.Entry<String, Long> owner : summary.getPendingMessagesPerConsumer().entrySet()) {
+      if (claimed >= count) {
+        break;
+      }
+      if (owner.getKey().equals(consumer) || owner.getValue() == 0) {
+        continue;
+      }
+
+      PendingMessages pending = streams.pending(STREAM_KEY, Consumer.from(GROUP, owner.getKey()),
+          Range.unbounded(), count - claimed);
+      List<RecordId> idle = new ArrayList<>();
+      for (PendingMessage message : pending) {
+        if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+          idle.add(message.getId());
+        }
+      }
+      if (!idle.isEmpty()) {
+        claimed += streams.claim(STREAM_KEY, GROUP, consumer, minIdle, idle.toArray(new RecordId[0])).size();
+      }
+    }
+    return claimed;
+  }
+
+  // MySQL 반영 완료 → ACK 후 스트림에서 삭제 (여러 건을 한 번에)
+  public void acknowledge(RecordId... recordIds) {
+    if (recordIds.length == 0) {
+      return;
+    }
+
+    StreamOperations<String, Object, Object> streams = redisTemplate.opsForStream();
+    streams.acknowledge(STREAM_KEY, GROUP, recordIds);
+    streams.delete(STREAM_KEY, recordIds);
+  }
+
+  // 읽을 수 없거나 계속 저장에 실패하는 항목은 dead letter 스트림으로 옮기고 ACK (원본 필드 그대로)
+  public void deadLetter(MapRecord<String, Object, Object> record) {
+    redisTemplate.opsForStream().add(DEAD_LETTER_KEY, record.getValue());
+    acknowledge(record.getId());
+  }
+
+  private List<Entry> read(String consumer, int count, ReadOffset offset) {
+    List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+        Consumer.from(GROUP, consumer),
+        StreamReadOptions.empty().count(count),
+        StreamOffset.create(STREAM_KEY, offset));
+
+    List<Entry> entries = new ArrayList<>();
+    if (records == null) {
+      return entries;
+    }
+    for (MapRecord<String, Object, Object> record : records) {
+      entries.add(toEntry(record));
+    }
+    return entries;
+  }
+
+  // 형식이 깨진 항목은 order = null (호출 측에서 dead letter 처리)
+  private Entry toEntry(MapRecord<String, Object, Object> record) {
+    Map<Object, Object> fields = record.getValue();
+    try {
+      long orderId = Long.parseLong(String.valueOf(fields.get(ORDER_ID_FIELD)));
+      PendingOrder order = objectMapper.readValue(String.valueOf(fields.get(ORDER_FIELD)), PendingOrder.class);
+      return new Entry(record, orderId, String.valueOf(fields.get(SESSION_ID_FIELD)), order);
+    } catch (NumberFormatException | JsonProcessingException e) {
+      log.error("주문 outbox 항목 형식 오류 - recordId: {}", record.getId(), e);
+      return new Entry(record, 0L, String.valueOf(fields.get(SESSION_ID_FIELD)), null);
+    }
+  }
+
+  public record Entry(MapRecord<String, Object, Object> record, long orderId, String sessionId, PendingOrder order) {
+  }
+}
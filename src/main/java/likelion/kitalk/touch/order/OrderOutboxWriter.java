@@ -0,0 +1,223 @@
+package likelion.kitalk.touch.order;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import likelion.kitalk.touch.service.MenuTrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.stereotype.Component;
+
+// 주문 outbox → MySQL 백그라운드 저장
+// - 전용 스레드에서 주기적으로 실행 (MySQL이 느려도 다른 @Scheduled 작업과 주문 접수에 영향 없음)
+// - 순서: 내가 받아 두고 실패한 주문 재시도 → 죽은 노드의 오래된 주문 넘겨받기 → 새 주문
+// - 한 번에 읽은 주문(최대 batch-size, 확인 주기 동안 쌓인 주문)은 OrderWriter가 한 트랜잭션으로 저장 (group commit)
+// - 저장에 실패한 주문은 ACK하지 않고 남겨 다음 주기에 다시 시도 (OrderWriter가 중복 저장 방지)
+// - MySQL이 살아 있는데 max-attempts번 전달돼도 저장되지 않는 주문은 dead letter로 옮겨 재시도를 멈춤
+//   (내 미처리 주문 재시도가 실패해도 새 주문 저장은 계속)
+// - 저장(커밋)된 주문만 인기 메뉴 점수에 반영
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderOutboxWriter {
+
+  private final OrderOutbox orderOutbox;
+  private final OrderWriter orderWriter;
+  private final OrderIdAllocator orderIdAllocator;
+  private final MenuTrendingService menuTrendingService;
+
+  // outbox 확인 주기
+  @Value("${kitalk.order.outbox.poll-interval-ms:200}")
+  private long pollIntervalMs;
+
+  // 한 번에 읽어 한 트랜잭션으로 저장하는 최대 주문 수
+  @Value("${kitalk.order.outbox.batch-size:50}")
+  private int batchSize;
+
+  // 다른 노드가 받아 두고 이 시간 넘게 처리하지 못한 주문은 넘겨받음
+  @Value("${kitalk.order.outbox.claim-idle-seconds:60}")
+  private long claimIdleSeconds;
+
+  // 이 횟수만큼 저장을 시도해도 실패한 주문은 dead letter로
+  @Value("${kitalk.order.outbox.max-attempts:5}")
+  private long maxAttempts;
+
+  private final String consumer = "writer-" + UUID.randomUUID();
+  private ScheduledExecutorService executor;
+  private volatile boolean sequenceReady;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    try {
+      orderOutbox.createGroup();
+    } catch (Exception e) {
+      // 그룹이 없으면 읽기가 실패하므로 주기마다 다시 시도
+      log.warn("주문 outbox 소비자 그룹 생성 실패 - 다음 주기에 재시도", e);
+    }
+    raiseSequence();
+
+    executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "order-outbox-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleWithFixedDelay(this::drain, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+
+    log.info("주문 outbox 저장 시작 - consumer: {}, batchSize: {}", consumer, batchSize);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  // 주문 번호 시퀀스를 orders.id 최대값 이상으로 맞췄는지 (맞추기 전에는 주문 번호가 기존 주문과 겹칠 수 있어 접수 불가)
+  public boolean isSequenceReady() {
+    return sequenceReady;
+  }
+
+  private void drain() {
+    try {
+      if (!sequenceReady) {
+        orderOutbox.createGroup();
+        raiseSequence();
+      }
+
+      // 이전에 실패한 주문 재시도 (실패해도 새 주문 저장은 계속)
+      retryPending();
+
+      int claimed = orderOutbox.claimIdle(consumer, Duration.ofSeconds(claimIdleSeconds), batchSize);
+      if (claimed > 0) {
+        log.warn("다른 노드의 미처리 주문 넘겨받음 - {}건", claimed);
+        retryPending();
+      }
+
+      // 새 주문 (저장에 실패하면 MySQL 문제일 수 있으므로 이번 주기는 여기서 멈춤, 실패한 주문은 다음 주기에 재시도)
+      List<OrderOutbox.Entry> entries = orderOutbox.readNew(consumer, batchSize);
+      while (!entries.isEmpty()) {
+        if (!write(entries).isEmpty()) {
+          return;
+        }
+        entries = orderOutbox.readNew(consumer, batchSize);
+      }
+    } catch (Exception e) {
+      log.warn("주문 outbox 처리 실패 - 다음 주기에 재시도", e);
+    }
+  }
+
+  // 이 소비자가 받아 두고 아직 저장하지 못한 주문 재시도 (시도 횟수를 넘긴 주문은 dead letter)
+  private void retryPending() {
+    List<OrderOutbox.Entry> entries = orderOutbox.readPending(consumer, batchSize);
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    List<OrderOutbox.Entry> failed = write(entries);
+    if (failed.isEmpty()) {
+      return;
+    }
+
+    // MySQL 자체가 안 되는 동안의 실패는 주문 탓이 아니므로 횟수를 넘겨도 옮기지 않음
+    if (!orderWriter.isAvailable()) {
+      return;
+    }
+
+    Map<RecordId, Long> deliveryCounts = orderOutbox.deliveryCounts(consumer, batchSize);
+    for (OrderOutbox.Entry entry : failed) {
+      long attempts = deliveryCounts.getOrDefault(entry.record().getId(), 0L);
+      if (attempts >= maxAttempts) {
+        log.error("MySQL 주문 저장 {}회 실패 - dead letter로 이동, orderId: {}, sessionId: {}",
+            attempts, entry.orderId(), entry.sessionId());
+        orderOutbox.deadLetter(entry.record());
+      }
+    }
+  }
+
+  // 읽어 온 주문을 한 트랜잭션으로 저장 (group commit) → 저장하지 못한 주문 (모두 저장했으면 빈 목록)
+  // 묶음 저장이 실패하면 한 건씩 다시 저장해 문제 있는 주문만 남김 (나머지 주문이 막히지 않도록)
+  private List<OrderOutbox.Entry> write(List<OrderOutbox.Entry> entries) {
+    Map<Long, OrderOutbox.Entry> batch = new LinkedHashMap<>();
+    for (OrderOutbox.Entry entry : entries) {
+      if (entry.order() == null) {
+        orderOutbox.deadLetter(entry.record());
+      } else {
+        batch.put(entry.orderId(), entry);
+      }
+    }
+    if (batch.isEmpty()) {
+      return List.of();
+    }
+
+    try {
+      commit(batch.values());
+      return List.of();
+    } catch (Exception e) {
+      if (batch.size() == 1) {
+        OrderOutbox.Entry entry = batch.values().iterator().next();
+        log.error("MySQL 주문 저장 실패 - orderId: {}, sessionId: {}, 다음 주기에 재시도",
+            entry.orderId(), entry.sessionId(), e);
+        return List.of(entry);
+      }
+      log.warn("MySQL 주문 묶음 저장 실패 - {}건, 한 건씩 재시도", batch.size(), e);
+    }
+
+    List<OrderOutbox.Entry> failed = new ArrayList<>();
+    for (OrderOutbox.Entry entry : batch.values()) {
+      try {
+        commit(List.of(entry));
+      } catch (Exception e) {
+        log.error("MySQL 주문 저장 실패 - orderId: {}, sessionId: {}, 다음 주기에 재시도",
+            entry.orderId(), entry.sessionId(), e);
+        failed.add(entry);
+      }
+    }
+    return failed;
+  }
+
+  // 저장 → 커밋된 주문만 ACK + 인기 메뉴 반영
+  private void commit(Collection<OrderOutbox.Entry> entries) throws SQLException {
+    Map<Long, PendingOrder> orders = new LinkedHashMap<>();
+    for (OrderOutbox.Entry entry : entries) {
+      orders.put(entry.orderId(), entry.order());
+    }
+
+    Set<Long> inserted = orderWriter.writeAll(orders);
+    orderOutbox.acknowledge(entries.stream().map(entry -> entry.record().getId()).toArray(RecordId[]::new));
+
+    for (OrderOutbox.Entry entry : entries) {
+      if (inserted.contains(entry.orderId())) {
+        log.info("MySQL 주문 저장 성공 - orderId: {}, sessionId: {}, totalPrice: {}원, 아이템 수: {}",
+            entry.orderId(), entry.sessionId(), entry.order().totalPrice(), entry.order().items().size());
+        menuTrendingService.recordOrder(entry.order().items());
+      } else {
+        log.info("이미 저장된 주문 - orderId: {}, sessionId: {}", entry.orderId(), entry.sessionId());
+      }
+    }
+  }
+
+  private void raiseSequence() {
+    try {
+      long current = orderIdAllocator.raiseSequence(orderWriter.maxOrderId());
+      sequenceReady = true;
+      log.info("주문 번호 시퀀스 확인 - 현재: {}", current);
+    } catch (Exception e) {
+      log.warn("주문 번호 시퀀스 확인 실패 - 다음 주기에 재시도", e);
+    }
+  }
+}
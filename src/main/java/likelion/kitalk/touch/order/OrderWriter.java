@@ -0,0 +1,166 @@
+package likelion.kitalk.touch.order;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import likelion.kitalk.touch.dto.CartItemDetail;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 접수된 주문을 orders/order_items에 저장 (주문 번호를 그대로 orders.id로 사용)
+// - group commit: 여러 주문을 한 트랜잭션에서 orders 다중 행 INSERT 한 번 + order_items 다중 행 INSERT 한 번 → 커밋(fsync) 한 번
+// - 이미 있는 주문 번호(이전 시도가 커밋 후 ACK 전에 실패)는 먼저 조회해서 빼고 씀 → 재시도해도 한 번만 저장
+// - 다른 노드가 같은 주문을 동시에 쓰면 키 중복으로 전체 롤백 → 다음 시도에서 이미 있는 주문으로 빠짐
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderWriter {
+
+  private static final String ORDER_COLUMNS =
+      "INSERT INTO orders (id, phone_number, total_price, packaging_type, created_at, status) VALUES ";
+  private static final String ORDER_ROW = "(?, ?, ?, ?, ?, ?)";
+
+  private static final String ITEM_COLUMNS =
+      "INSERT INTO order_items (order_id, menu_id, menu_name, price, quantity, temp) VALUES ";
+  private static final String ITEM_ROW = "(?, ?, ?, ?, ?, ?)";
+
+  private final DataSource dataSource;
+
+  // 주문 여러 개를 한 트랜잭션에서 저장 → 이번에 새로 저장한 주문 번호 (이미 있던 주문은 제외)
+  public Set<Long> writeAll(Map<Long, PendingOrder> orders) throws SQLException {
+    if (orders.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false); // 트랜잭션 시작
+      try {
+        Set<Long> existing = findExisting(connection, orders.keySet());
+        Map<Long, PendingOrder> fresh = new LinkedHashMap<>(orders);
+        fresh.keySet().removeAll(existing);
+
+        if (!fresh.isEmpty()) {
+          insertOrders(connection, fresh);
+          insertItems(connection, fresh);
+        }
+        connection.commit();
+
+        log.debug("주문 group commit 완료 - 요청: {}건, 저장: {}건, 이미 있음: {}건",
+            orders.size(), fresh.size(), existing.size());
+        return fresh.keySet();
+
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true); // 자동 커밋 복원
+      }
+    }
+  }
+
+  // MySQL 연결 가능 여부 (저장 실패가 주문 탓인지 MySQL 장애 탓인지 구분용)
+  public boolean isAvailable() {
+    try (Connection connection = dataSource.getConnection()) {
+      return connection.isValid(1);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  // orders.id 최대값 (주문 번호 시퀀스 하한)
+  public long maxOrderId() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement("SELECT COALESCE(MAX(id), 0) FROM orders");
+        ResultSet resultSet = statement.executeQuery()) {
+      return resultSet.next() ? resultSet.getLong(1) : 0L;
+    }
+  }
+
+  private Set<Long> findExisting(Connection connection, Set<Long> orderIds) throws SQLException {
+    String sql = "SELECT id FROM orders WHERE id IN (" + placeholders("?", orderIds.size()) + ")";
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      int index = 1;
+      for (Long orderId : orderIds) {
+        statement.setLong(index++, orderId);
+      }
+
+      Set<Long> existing = new HashSet<>();
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          existing.add(resultSet.getLong(1));
+        }
+      }
+      return existing;
+    }
+  }
+
+  private void insertOrders(Connection connection, Map<Long, PendingOrder> orders) throws SQLException {
+    String sql = ORDER_COLUMNS + placeholders(ORDER_ROW, orders.size());
+    try (PreparedStatement orderStmt = connection.prepareStatement(sql)) {
+      int index = 1;
+      for (Map.Entry<Long, PendingOrder> entry : orders.entrySet()) {
+        PendingOrder order = entry.getValue();
+        orderStmt.setLong(index++, entry.getKey());
+        orderStmt.setString(index++, order.phoneNumber());
+        orderStmt.setInt(index++, order.totalPrice());
+        orderStmt.setString(index++, order.packagingType());
+        orderStmt.setTimestamp(index++, new Timestamp(order.createdAt()));
+        orderStmt.setString(index++, "completed");
+      }
+
+      int rowsAffected = orderStmt.executeUpdate();
+      if (rowsAffected != orders.size()) {
+        throw new SQLException("주문 생성 실패, 영향받은 행 수 불일치: " + rowsAffected + "/" + orders.size());
+      }
+    }
+  }
+
+  private void insertItems(Connection connection, Map<Long, PendingOrder> orders) throws SQLException {
+    int itemCount = 0;
+    for (PendingOrder order : orders.values()) {
+      itemCount += order.items().size();
+    }
+    if (itemCount == 0) {
+      return;
+    }
+
+    String sql = ITEM_COLUMNS + placeholders(ITEM_ROW, itemCount);
+    try (PreparedStatement itemStmt = connection.prepareStatement(sql)) {
+      int index = 1;
+      for (Map.Entry<Long, PendingOrder> entry : orders.entrySet()) {
+        for (CartItemDetail item : entry.getValue().items()) {
+          itemStmt.setLong(index++, entry.getKey());
+          itemStmt.setLong(index++, item.getMenu_id());
+          itemStmt.setString(index++, item.getMenu_item());
+          itemStmt.setInt(index++, item.getPrice());
+          itemStmt.setInt(index++, item.getQuantity());
+          itemStmt.setString(index++, item.getTemp());
+        }
+      }
+
+      itemStmt.executeUpdate();
+      log.debug("주문 아이템 저장 완료 - 주문 수: {}, 아이템 수: {}", orders.size(), itemCount);
+    }
+  }
+
+  // "(?, ...)" 를 count번 쉼표로 이어 붙임
+  private String placeholders(String row, int count) {
+    StringBuilder builder = new StringBuilder(count * (row.length() + 2));
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(row);
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,14 @@
+package likelion.kitalk.touch.order;
+
+import java.util.List;
+import likelion.kitalk.touch.dto.CartItemDetail;
+
+// 주문 스트림에 넣는 접수된 주문 (주문 번호는 스트림 항목 필드로 따로 보관)
+// createdAt: 접수 시각 (epoch millis, MySQL에 쓰는 시각이 아니라 고객이 주문한 시각)
+public record PendingOrder(
+    String packagingType,
+    String phoneNumber,
+    int totalPrice,
+    long createdAt,
+    List<CartItemDetail> items) {
+}
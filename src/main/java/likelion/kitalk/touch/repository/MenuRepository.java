@@ -3,6 +3,7 @@ package likelion.kitalk.touch.repository;
 import java.util.List;
 import likelion.kitalk.touch.entity.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -20,4 +21,15 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
 
   // 누락된 메서드 추가
   List<Menu> findByCategoryInAndIsActiveTrue(List<String> categories);
+
+  // 메뉴 카탈로그 변경 감지용 지문 (행 수 + 최종 수정 시각 + 행 내용 체크섬)
+  @Query(value = """
+        SELECT CONCAT(
+            COUNT(*), ':',
+            COALESCE(UNIX_TIMESTAMP(MAX(updated_at)), 0), ':',
+            COALESCE(SUM(CRC32(CONCAT_WS('|', id, name, temperature, price, category,
+                is_active, popular, IFNULL(profile, '')))), 0))
+        FROM menu
+    """, nativeQuery = true)
+  String findCatalogFingerprint();
 }
\ No newline at end of file
@@ -1,9 +1,15 @@
 package likelion.kitalk.touch.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import likelion.kitalk.global.exception.CustomException;
+import likelion.kitalk.touch.cart.Cart;
+import likelion.kitalk.touch.cart.CartEventBus;
+import likelion.kitalk.touch.cart.CartLine;
+import likelion.kitalk.touch.cart.CartOperation;
+import likelion.kitalk.touch.cart.CartReconciliation;
+import likelion.kitalk.touch.cart.PricedCart;
+import likelion.kitalk.touch.cart.RedisCartStore;
 import likelion.kitalk.touch.dto.request.CartAddRequest;
+import likelion.kitalk.touch.dto.request.CartBatchRequest;
 import likelion.kitalk.touch.dto.request.CartRemoveRequest;
 import likelion.kitalk.touch.dto.request.CartUpdateRequest;
 import likelion.kitalk.touch.dto.request.PackagingRequest;
@@ -12,27 +18,19 @@ import likelion.kitalk.touch.util.CartUtils;
 import likelion.kitalk.touch.validator.CartValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CartService {
 
-  private final RedisTemplate<String, String> redisTemplate;
-  private final ObjectMapper objectMapper;
   private final CartValidator cartValidator;
   private final CartUtils cartUtils;
-
-  private static final String CART_KEY_PREFIX = "touch_cart:";
-  private static final String PACKAGING_KEY_PREFIX = "touch_packaging:";  // 포장 방식 키 prefix
-  private static final long CART_EXPIRE_HOURS = 2;
+  private final RedisCartStore cartStore;
+  private final CartEventBus cartEventBus;
 
   // 장바구니에 메뉴 추가
   public Map<String, Object> addToCart(String sessionId, CartAddRequest request) {
@@ -42,40 +40,19 @@ public class CartService {
     cartValidator.validateAddRequest(sessionId, request);
 
     try {
-      Map<String, Object> cartData = getCartData(sessionId);
-
-      @SuppressWarnings("unchecked")
-      List<Map<String, Object>> items = (List<Map<String, Object>>) cartData.get("items");
-
-      // 동일한 메뉴가 있는지 확인
-      Map<String, Object> existingItem = cartUtils.findCartItem(items, request.getMenuId());
-
-      if (existingItem != null) {
-        // 기존 항목 수량 증가
-        Integer currentQuantity = (Integer) existingItem.get("quantity");
-        Integer newQuantity = currentQuantity + request.getQuantity();
-        existingItem.put("quantity", newQuantity);
-        log.debug("기존 메뉴 수량 증가 - menuId: {}, {} → {}",
-            request.getMenuId(), currentQuantity, newQuantity);
-      } else {
-        // 새 항목 추가
-        Map<String, Object> newItem = new HashMap<>();
-        newItem.put("menuId", request.getMenuId());
-        newItem.put("quantity", request.getQuantity());
-        items.add(newItem);
-        log.debug("새 메뉴 추가 - menuId: {}, quantity: {}",
-            request.getMenuId(), request.getQuantity());
-      }
-
-      saveCartData(sessionId, cartData);
+      // 동일한 메뉴가 있으면 수량 증가, 없으면 새 항목 (HINCRBY 한 번)
+      RedisCartStore.CartView view =
+          cartStore.increment(sessionId, request.getVersion(), request.getMenuId(), request.getQuantity());
 
       log.info("장바구니 담기 완료 - sessionId: {}, 총 항목 수: {}",
-          sessionId, items.size());
+          sessionId, view.cart().size());
 
-      return cartUtils.convertToMap(
-          createCartResponseWithPackaging("장바구니에 담겼습니다", cartData, sessionId)
-      );
+      return publish(sessionId, cartUtils.convertToMap(
+          createCartResponseWithPackaging("장바구니에 담겼습니다", view, sessionId)
+      ));
 
+    } catch (CustomException e) {
+      throw e;
     } catch (Exception e) {
       log.error("장바구니 담기 중 오류 발생 - sessionId: {}", sessionId, e);
       throw new CustomException(CartErrorCode.CART_UPDATE_FAILED);
@@ -90,87 +67,34 @@ public class CartService {
     cartValidator.validateUpdateRequest(sessionId, request);
 
     try {
-      Map<String, Object> cartData = getCartData(sessionId);
-
-      @SuppressWarnings("unchecked")
-      List<Map<String, Object>> currentItems = (List<Map<String, Object>>) cartData.get("items");
-
-      // 현재 장바구니를 Map으로 변환 (효율적인 조회를 위해)
-      Map<Long, Map<String, Object>> currentItemsMap = new HashMap<>();
-      for (Map<String, Object> item : currentItems) {
-        Long menuId = ((Number) item.get("menuId")).longValue();
-        currentItemsMap.put(menuId, item);
-      }
-
-      // 요청된 항목들을 Map으로 변환
-      Map<Long, Integer> requestItemsMap = new HashMap<>();
+      // 요청 항목 → 저장할 메뉴 줄 (수량 0은 제거 대상이라 제외)
+      List<CartLine> requestLines = new ArrayList<>(request.getOrders().size());
       for (CartUpdateRequest.CartUpdateItem requestItem : request.getOrders()) {
-        Long menuId = requestItem.getMenu_id();
-        Integer quantity = requestItem.getQuantity();
-        requestItemsMap.put(menuId, quantity);
-      }
-
-      int addedCount = 0, updatedCount = 0, removedCount = 0;
-
-      // 1. 요청된 항목들 처리 (추가 또는 수량 변경)
-      for (Map.Entry<Long, Integer> entry : requestItemsMap.entrySet()) {
-        Long menuId = entry.getKey();
-        Integer newQuantity = entry.getValue();
-
-        if (newQuantity <= 0) {
-          // 수량이 0 이하면 제거
-          if (currentItemsMap.containsKey(menuId)) {
-            currentItems.removeIf(item -> ((Number) item.get("menuId")).longValue() == menuId);
-            removedCount++;
-            log.debug("메뉴 제거 - menuId: {}", menuId);
-          }
-        } else {
-          Map<String, Object> existingItem = currentItemsMap.get(menuId);
-          if (existingItem != null) {
-            // 기존 항목 수량 변경
-            Integer oldQuantity = (Integer) existingItem.get("quantity");
-            if (!oldQuantity.equals(newQuantity)) {
-              existingItem.put("quantity", newQuantity);
-              updatedCount++;
-              log.debug("메뉴 수량 변경 - menuId: {}, {} → {}",
-                  menuId, oldQuantity, newQuantity);
-            }
-          } else {
-            // 새 항목 추가
-            Map<String, Object> newItem = new HashMap<>();
-            newItem.put("menuId", menuId);
-            newItem.put("quantity", newQuantity);
-            currentItems.add(newItem);
-            addedCount++;
-            log.debug("새 메뉴 추가 - menuId: {}, 수량: {}", menuId, newQuantity);
-          }
-        }
+        requestLines.add(new CartLine(requestItem.getMenu_id(), requestItem.getQuantity()));
       }
+      List<CartLine> desiredLines = CartReconciliation.desiredLines(requestLines);
 
-      // 2. 요청에 없는 기존 항목들 제거
-      Iterator<Map<String, Object>> iterator = currentItems.iterator();
-      while (iterator.hasNext()) {
-        Map<String, Object> item = iterator.next();
-        Long menuId = ((Number) item.get("menuId")).longValue();
-        if (!requestItemsMap.containsKey(menuId)) {
-          iterator.remove();
-          removedCount++;
-          log.debug("요청에 없는 메뉴 제거 - menuId: {}", menuId);
-        }
-      }
+      // 요청 내용으로 장바구니 교체 후 이전 상태와 한 번에 비교해 변경 내역 집계
+      RedisCartStore.Replacement replacement = cartStore.replace(sessionId, request.getVersion(), desiredLines);
+      CartReconciliation reconciliation = CartReconciliation.of(replacement.previous(), desiredLines);
+      int addedCount = reconciliation.added();
+      int updatedCount = reconciliation.updated();
+      int removedCount = reconciliation.removed();
 
-      saveCartData(sessionId, cartData);
+      RedisCartStore.CartView view = replacement.view();
 
       log.info("장바구니 업데이트 완료 - sessionId: {}, 추가: {}, 변경: {}, 제거: {}, 총 항목: {}",
-          sessionId, addedCount, updatedCount, removedCount, currentItems.size());
+          sessionId, addedCount, updatedCount, removedCount, view.cart().size());
 
       String message = String.format("장바구니가 업데이트되었습니다 (추가: %d, 변경: %d, 제거: %d)",
           addedCount, updatedCount, removedCount);
 
-      return cartUtils.convertToMap(
-          createCartResponseWithPackaging(message, cartData, sessionId)
-      );
+      return publish(sessionId, cartUtils.convertToMap(
+          createCartResponseWithPackaging(message, view, sessionId)
+      ));
 
+    } catch (CustomException e) {
+      throw e;
     } catch (Exception e) {
       log.error("장바구니 업데이트 중 오류 발생 - sessionId: {}", sessionId, e);
       throw new CustomException(CartErrorCode.CART_UPDATE_FAILED);
@@ -185,34 +109,61 @@ public class CartService {
     cartValidator.validateRemoveRequest(sessionId, request);
 
     try {
-      Map<String, Object> cartData = getCartData(sessionId);
-
-      @SuppressWarnings("unchecked")
-      List<Map<String, Object>> items = (List<Map<String, Object>>) cartData.get("items");
+      // 해당 메뉴 제거 (HDEL)
+      RedisCartStore.CartView view = cartStore.remove(sessionId, request.getVersion(), request.getMenuId());
 
-      // 해당 메뉴 찾기 및 제거
-      boolean removed = items.removeIf(item ->
-          ((Number) item.get("menuId")).longValue() == request.getMenuId());
-
-      if (!removed) {
+      if (view == null) {
         throw new CustomException(CartErrorCode.CART_ITEM_NOT_FOUND);
       }
 
-      saveCartData(sessionId, cartData);
-
       log.info("특정 메뉴 삭제 완료 - sessionId: {}, menuId: {}, 남은 항목 수: {}",
-          sessionId, request.getMenuId(), items.size());
+          sessionId, request.getMenuId(), view.cart().size());
 
-      return cartUtils.convertToMap(
-          createCartResponseWithPackaging("메뉴가 삭제되었습니다", cartData, sessionId)
-      );
+      return publish(sessionId, cartUtils.convertToMap(
+          createCartResponseWithPackaging("메뉴가 삭제되었습니다", view, sessionId)
+      ));
 
+    } catch (CustomException e) {
+      throw e;
     } catch (Exception e) {
       log.error("특정 메뉴 삭제 중 오류 발생 - sessionId: {}", sessionId, e);
       throw new CustomException(CartErrorCode.CART_UPDATE_FAILED);
     }
   }
 
+  // 일괄 변경 (음성 주문 한 문장의 담기/삭제/수량 변경/포장 방식을 한 번에)
+  public Map<String, Object> applyBatch(String sessionId, CartBatchRequest request) {
+    log.info("장바구니 일괄 변경 - sessionId: {}, 동작 수: {}",
+        sessionId, request.getOperations() != null ? request.getOperations().size() : 0);
+
+    cartValidator.validateBatchRequest(sessionId, request);
+
+    try {
+      List<CartOperation> operations = new ArrayList<>(request.getOperations().size());
+      for (CartBatchRequest.CartBatchOperation operation : request.getOperations()) {
+        operations.add(toCartOperation(operation));
+      }
+
+      // 전체 동작을 스크립트 한 번으로 적용 (중간에 실패하면 아무것도 적용되지 않음)
+      RedisCartStore.CartView view = cartStore.apply(sessionId, request.getVersion(), operations);
+
+      log.info("장바구니 일괄 변경 완료 - sessionId: {}, 동작 수: {}, 총 항목 수: {}",
+          sessionId, operations.size(), view.cart().size());
+
+      String message = String.format("장바구니가 업데이트되었습니다 (%d건 처리)", operations.size());
+
+      return publish(sessionId, cartUtils.convertToMap(
+          createCartResponseWithPackaging(message, view, sessionId)
+      ));
+
+    } catch (CustomException e) {
+      throw e;
+    } catch (Exception e) {
+      log.error("장바구니 일괄 변경 중 오류 발생 - sessionId: {}", sessionId, e);
+      throw new CustomException(CartErrorCode.CART_UPDATE_FAILED);
+    }
+  }
+
   // 장바구니 전체 비우기
   public Map<String, Object> clearCart(String sessionId) {
     log.info("장바구니 전체 비우기 - sessionId: {}", sessionId);
@@ -220,16 +171,13 @@ public class CartService {
     cartValidator.validateSessionOnly(sessionId);
 
     try {
-      String cartKey = CART_KEY_PREFIX + sessionId;
-      redisTemplate.delete(cartKey);
-
-      Map<String, Object> emptyCart = cartUtils.createEmptyCart();
+      RedisCartStore.CartView emptyCart = cartStore.clear(sessionId);
 
       log.info("장바구니 비우기 완료 - sessionId: {}", sessionId);
 
-      return cartUtils.convertToMap(
+      return publish(sessionId, cartUtils.convertToMap(
           createCartResponseWithPackaging("장바구니가 비워졌습니다", emptyCart, sessionId)
-      );
+      ));
 
     } catch (Exception e) {
       log.error("장바구니 비우기 중 오류 발생 - sessionId: {}", sessionId, e);
@@ -244,15 +192,13 @@ public class CartService {
     cartValidator.validateSessionOnly(sessionId);
 
     try {
-      Map<String, Object> cartData = getCartData(sessionId);
+      // 장바구니와 포장 방식을 한 번에 조회
+      RedisCartStore.CartView view = cartStore.view(sessionId);
 
-      @SuppressWarnings("unchecked")
-      List<Map<String, Object>> items = (List<Map<String, Object>>) cartData.get("items");
-
-      log.info("장바구니 조회 완료 - sessionId: {}, 항목 수: {}", sessionId, items.size());
+      log.info("장바구니 조회 완료 - sessionId: {}, 항목 수: {}", sessionId, view.cart().size());
 
       return cartUtils.convertToMap(
-          createCartResponseWithPackaging("장바구니 조회 성공", cartData, sessionId)
+          createCartResponseWithPackaging("장바구니 조회 성공", view, sessionId)
       );
 
     } catch (Exception e) {
@@ -269,18 +215,14 @@ public class CartService {
     cartValidator.validatePackagingRequest(sessionId, request);
 
     try {
-      // 별도 키로 포장 방식 저장
-      String packagingKey = PACKAGING_KEY_PREFIX + sessionId;
-      Map<String, Object> packagingData = new HashMap<>();
-      packagingData.put("packagingType", request.getPackagingType());
-      packagingData.put("updatedAt", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-
-      String packagingJson = objectMapper.writeValueAsString(packagingData);
-      redisTemplate.opsForValue().set(packagingKey, packagingJson, CART_EXPIRE_HOURS, TimeUnit.HOURS);
+      // 세션 해시에 포장 방식 저장 (세션 TTL도 함께 연장)
+      cartStore.setPackagingType(sessionId, request.getPackagingType());
 
       log.info("포장 방식 설정 완료 - sessionId: {}, packagingType: {}",
           sessionId, request.getPackagingType());
 
+      publishCurrent(sessionId, "포장 방식이 설정되었습니다");
+
       return cartUtils.convertToMap(
           cartUtils.createPackagingResponse("포장 방식이 설정되었습니다",
               sessionId,
@@ -294,85 +236,51 @@ public class CartService {
   }
 
 
-  // 포장 방식을 포함한 CartResponse 생성
-  private likelion.kitalk.touch.dto.response.CartResponse createCartResponseWithPackaging(
-      String message, Map<String, Object> cartData, String sessionId) {
-    
-    @SuppressWarnings("unchecked")
-    List<Map<String, Object>> items = (List<Map<String, Object>>) cartData.get("items");
-
-    // Redis 아이템을 CartItemDetail로 변환
-    var orders = cartUtils.convertToCartItemDetails(items);
-    
-    // 총 가격 계산
-    int totalPrice = cartUtils.calculateTotalPrice(items);
-    
-    // 포장 방식 조회
-    String packaging = getPackagingType(sessionId);
-    
-    return likelion.kitalk.touch.dto.response.CartResponse.builder()
-            .message(message)
-            .orders(orders)
-            .total_items(orders.size())
-            .total_price(totalPrice)
-            .packaging(packaging)
-            .session_id(sessionId)
-            .build();
+  // 변경 후 장바구니 응답을 스트림 구독자에게 전파하고 그대로 반환
+  private Map<String, Object> publish(String sessionId, Map<String, Object> response) {
+    cartEventBus.publish(sessionId, response);
+    return response;
   }
 
-  // Redis에서 포장 방식 조회
-  private String getPackagingType(String sessionId) {
+  // 장바구니를 돌려주지 않는 변경(포장 방식)은 현재 장바구니를 읽어 전파 (실패해도 설정 결과에는 영향 없음)
+  private void publishCurrent(String sessionId, String message) {
     try {
-      String packagingKey = PACKAGING_KEY_PREFIX + sessionId;
-      String packagingJson = redisTemplate.opsForValue().get(packagingKey);
-      
-      if (packagingJson == null) {
-        return null;  // 설정되지 않았으면 null 반환
-      }
-      
-      @SuppressWarnings("unchecked")
-      Map<String, Object> packagingData = objectMapper.readValue(packagingJson, Map.class);
-      return (String) packagingData.get("packagingType");
-      
+      RedisCartStore.CartView view = cartStore.view(sessionId);
+      publish(sessionId, cartUtils.convertToMap(createCartResponseWithPackaging(message, view, sessionId)));
     } catch (Exception e) {
-      log.warn("포장 방식 조회 실패 - sessionId: {}, null 반환", sessionId, e);
-      return null;  // 오류시 null 반환
+      log.warn("장바구니 변경 이벤트 생성 실패 - sessionId: {}", sessionId, e);
     }
   }
 
-  // Redis에서 장바구니 데이터 조회
-  @SuppressWarnings("unchecked")
-  private Map<String, Object> getCartData(String sessionId) {
-    try {
-      String cartKey = CART_KEY_PREFIX + sessionId;
-      String cartJson = redisTemplate.opsForValue().get(cartKey);
-
-      if (cartJson == null) {
-        return cartUtils.createEmptyCart();
-      }
-
-      return objectMapper.readValue(cartJson, Map.class);
-
-    } catch (JsonProcessingException e) {
-      log.error("장바구니 데이터 파싱 실패 - sessionId: {}", sessionId, e);
-      throw new CustomException(CartErrorCode.CART_DATA_CORRUPTED);
-    }
+  // 요청 동작 → CartOperation (검증을 통과한 요청만 들어옴)
+  private CartOperation toCartOperation(CartBatchRequest.CartBatchOperation operation) {
+    return switch (CartOperation.Type.of(operation.getType())) {
+      case ADD -> CartOperation.add(operation.getMenuId(), operation.getQuantity());
+      case REMOVE -> CartOperation.remove(operation.getMenuId());
+      case SET -> CartOperation.setQuantity(operation.getMenuId(), operation.getQuantity());
+      case PACKAGING -> CartOperation.packaging(operation.getPackagingType());
+    };
   }
 
-  // Redis에 장바구니 데이터 저장
-  private void saveCartData(String sessionId, Map<String, Object> cartData) {
-    try {
-      // 업데이트 시간 갱신
-      cartData.put("updatedAt", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-
-      String cartKey = CART_KEY_PREFIX + sessionId;
-      String cartJson = objectMapper.writeValueAsString(cartData);
-
-      redisTemplate.opsForValue().set(cartKey, cartJson, CART_EXPIRE_HOURS, TimeUnit.HOURS);
+  // 포장 방식을 포함한 CartResponse 생성 (장바구니 스크립트가 함께 돌려준 포장 방식 사용 - 추가 조회 없음)
+  // 저장된 가격 뷰가 최신이면 메뉴 조회/가격 계산 없이 그대로 사용하고, 다시 계산했으면 저장해 둠
+  private likelion.kitalk.touch.dto.response.CartResponse createCartResponseWithPackaging(
+      String message, RedisCartStore.CartView view, String sessionId) {
+    Cart cart = view.cart();
 
-    } catch (JsonProcessingException e) {
-      log.error("장바구니 데이터 저장 실패 - sessionId: {}", sessionId, e);
-      throw new CustomException(CartErrorCode.CART_SAVE_FAILED);
+    PricedCart priced = cartUtils.price(cart, view.priced());
+    if (priced != view.priced()) {
+      cartStore.savePriced(sessionId, priced);
     }
+
+    return likelion.kitalk.touch.dto.response.CartResponse.builder()
+            .message(message)
+            .version(cart.version())
+            .orders(priced.orders())
+            .total_items(priced.orders().size())
+            .total_price(priced.totalPrice())
+            .packaging(view.packagingType())
+            .session_id(sessionId)
+            .build();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,237 @@
+package likelion.kitalk.touch.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import likelion.kitalk.touch.cart.CartEventBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 장바구니 SSE 스트림 (고객용/직원용 화면이 폴링 대신 구독)
+// - 연결 직후 현재 장바구니를 한 번 보내고, 이후 장바구니/포장 방식이 바뀔 때마다 변경 후 응답을 그대로 전달
+// - 세션마다 이 노드에 열린 스트림이 하나라도 있을 때만 Redis 채널을 구독 (마지막 스트림이 닫히면 해제)
+// - 구독을 먼저 하고 현재 장바구니를 조회 → 그 사이 변경도 놓치지 않음
+// - 이벤트 순서가 뒤바뀔 수 있으므로(첫 조회 vs 직후 변경) 화면은 version이 더 큰 이벤트만 반영
+// - 전송은 스트림마다 대기열에 넣고 전용 스레드에서 보냄
+//   (느린 연결이 Redis 리스너 스레드나 카탈로그 갱신 등 다른 @Scheduled 작업을 막지 않도록,
+//   대기열이 max-queued-events를 넘으면 느린 연결로 보고 닫음)
+// - 프록시 유휴 종료 방지 + 끊긴 연결 정리를 위해 주기적으로 주석 이벤트 전송
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CartStreamService {
+
+  private static final String CART_EVENT = "cart";
+
+  private final CartService cartService;
+  private final CartEventBus cartEventBus;
+
+  // 스트림 최대 유지 시간 (지나면 클라이언트가 다시 연결)
+  @Value("${kitalk.cart.stream.timeout-ms:1800000}")
+  private long timeoutMs;
+
+  // 연결 유지용 ping 주기
+  @Value("${kitalk.cart.stream.heartbeat-interval-ms:15000}")
+  private long heartbeatIntervalMs;
+
+  // 전송 스레드 수
+  @Value("${kitalk.cart.stream.threads:4}")
+  private int streamThreads;
+
+  // 스트림 하나에 밀려 있을 수 있는 최대 이벤트 수
+  @Value("${kitalk.cart.stream.max-queued-events:32}")
+  private int maxQueuedEvents;
+
+  private ScheduledExecutorService streamExecutor;
+
+  // 세션 → 이 노드에 열린 스트림들 (구독/해제는 subscriptions 잠금 안에서)
+  private final Map<String, Subscription> subscriptions = new HashMap<>();
+
+  // 장바구니 스트림 열기
+  public SseEmitter open(String sessionId) {
+    SseEmitter emitter = new SseEmitter(timeoutMs);
+    emitter.onCompletion(() -> detach(sessionId, emitter));
+    emitter.onTimeout(() -> detach(sessionId, emitter));
+    emitter.onError(e -> detach(sessionId, emitter));
+
+    Stream stream = attach(sessionId, emitter);
+
+    // 세션 검증 + 첫 이벤트용 현재 장바구니 (잘못된 세션이면 구독을 풀고 스트림을 열지 않음)
+    Map<String, Object> current;
+    try {
+      current = cartService.getCart(sessionId);
+    } catch (RuntimeException e) {
+      detach(sessionId, emitter);
+      throw e;
+    }
+    stream.enqueue(SseEmitter.event().name(CART_EVENT).data(current, MediaType.APPLICATION_JSON));
+
+    log.info("장바구니 스트림 연결 - sessionId: {}", sessionId);
+    return emitter;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    AtomicInteger threadCount = new AtomicInteger();
+    streamExecutor = Executors.newScheduledThreadPool(streamThreads, runnable -> {
+      Thread thread = new Thread(runnable, "cart-stream-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    streamExecutor.scheduleWithFixedDelay(this::heartbeat,
+        heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (streamExecutor != null) {
+      streamExecutor.shutdownNow();
+    }
+  }
+
+  private void heartbeat() {
+    for (Stream stream : streams()) {
+      stream.enqueue(SseEmitter.event().comment("ping"));
+    }
+  }
+
+  private List<Stream> streams() {
+    synchronized (subscriptions) {
+      return subscriptions.values().stream()
+          .flatMap(subscription -> subscription.streams().values().stream())
+          .toList();
+    }
+  }
+
+  private Stream attach(String sessionId, SseEmitter emitter) {
+    synchronized (subscriptions) {
+      Subscription subscription = subscriptions.get(sessionId);
+      if (subscription == null) {
+        Map<SseEmitter, Stream> streams = new ConcurrentHashMap<>();
+        MessageListener listener = cartEventBus.subscribe(sessionId, payload -> deliver(streams, payload));
+        subscription = new Subscription(listener, streams);
+        subscriptions.put(sessionId, subscription);
+      }
+      Stream stream = new Stream(sessionId, emitter);
+      subscription.streams().put(emitter, stream);
+      return stream;
+    }
+  }
+
+  private void detach(String sessionId, SseEmitter emitter) {
+    synchronized (subscriptions) {
+      Subscription subscription = subscriptions.get(sessionId);
+      if (subscription == null || subscription.streams().remove(emitter) == null) {
+        return;
+      }
+      if (subscription.streams().isEmpty()) {
+        subscriptions.remove(sessionId);
+        cartEventBus.unsubscribe(sessionId, subscription.listener());
+      }
+    }
+
+    log.info("장바구니 스트림 종료 - sessionId: {}", sessionId);
+  }
+
+  // 다른 노드(또는 이 노드)에서 발행한 변경 후 장바구니 JSON을 그대로 전달 (Redis 리스너 스레드에서는 대기열에 넣기만)
+  private void deliver(Map<SseEmitter, Stream> streams, String payload) {
+    for (Stream stream : streams.values()) {
+      stream.enqueue(SseEmitter.event().name(CART_EVENT).data(payload, MediaType.APPLICATION_JSON));
+    }
+  }
+
+  // 보내기 실패한 스트림 정리 (이미 끝난 스트림이면 complete가 무시됨)
+  private void close(String sessionId, SseEmitter emitter) {
+    log.debug("장바구니 스트림 전송 실패 - sessionId: {}", sessionId);
+    detach(sessionId, emitter);
+    emitter.complete();
+  }
+
+  private record Subscription(MessageListener listener, Map<SseEmitter, Stream> streams) {
+  }
+
+  // 스트림 하나의 전송 대기열 (한 번에 한 스레드만 보내므로 이벤트 순서 유지)
+  private final class Stream {
+
+    private final String sessionId;
+    private final SseEmitter emitter;
+    private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+    private boolean draining;
+
+    private Stream(String sessionId, SseEmitter emitter) {
+      this.sessionId = sessionId;
+      this.emitter = emitter;
+    }
+
+    void enqueue(SseEmitter.SseEventBuilder event) {
+      boolean overflow = false;
+      synchronized (this) {
+        if (queue.size() >= maxQueuedEvents) {
+          queue.clear();
+          overflow = true;
+        } else {
+          queue.add(event);
+          if (draining) {
+            return;
+          }
+          draining = true;
+        }
+      }
+
+      if (overflow) {
+        log.warn("장바구니 스트림 대기열 초과 - sessionId: {}, 연결 종료", sessionId);
+        close(sessionId, emitter);
+        return;
+      }
+      try {
+        streamExecutor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        // 종료 중이면 보내지 않음
+        synchronized (this) {
+          queue.clear();
+          draining = false;
+        }
+      }
+    }
+
+    private void drain() {
+      while (true) {
+        SseEmitter.SseEventBuilder event;
+        synchronized (this) {
+          event = queue.poll();
+          if (event == null) {
+            draining = false;
+            return;
+          }
+        }
+
+        try {
+          emitter.send(event);
+        } catch (Exception e) {
+          synchronized (this) {
+            queue.clear();
+            draining = false;
+          }
+          close(sessionId, emitter);
+          return;
+        }
+      }
+    }
+  }
+}
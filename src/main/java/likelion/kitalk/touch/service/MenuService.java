@@ -2,12 +2,22 @@ package likelion.kitalk.touch.service;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import likelion.kitalk.global.dto.BaseResponse;
 import likelion.kitalk.global.exception.CustomException;
+import likelion.kitalk.touch.catalog.MenuCatalog;
+import likelion.kitalk.touch.catalog.MenuCatalogHolder;
+import likelion.kitalk.touch.catalog.MenuCategoryIndex;
+import likelion.kitalk.touch.catalog.MenuSearchIndex;
 import likelion.kitalk.touch.converter.MenuConverter;
 import likelion.kitalk.touch.dto.response.CategoryResponse;
+import likelion.kitalk.touch.dto.response.MenuChangesResponse;
 import likelion.kitalk.touch.dto.response.MenuResponse;
+import likelion.kitalk.touch.dto.response.MenuSearchResponse;
+import likelion.kitalk.touch.dto.response.TrendingMenuResponse;
 import likelion.kitalk.touch.entity.Menu;
 import likelion.kitalk.touch.exception.MenuErrorCode;
 import likelion.kitalk.touch.repository.MenuRepository;
@@ -25,6 +35,8 @@ public class MenuService {
 
   private final MenuRepository menuRepository;
   private final MenuConverter menuConverter;
+  private final MenuCatalogHolder menuCatalogHolder;
+  private final MenuTrendingService menuTrendingService;
 
   // "모든메뉴"에 포함될 카테고리들
   private final List<String> ALL_MENU_CATEGORIES = Arrays.asList(
@@ -36,24 +48,33 @@ public class MenuService {
       "커피", "기타 음료", "주스", "차", "디저트"
   );
 
+  // 검색 결과 최대 개수
+  private static final int MAX_SEARCH_LIMIT = 50;
+
   // 메뉴 리스트 조회
   public BaseResponse<List<MenuResponse>> getMenuList(String category) {
-    log.info("메뉴 리스트 조회 시작 - category: {}", category);
+    return getMenuList(menuCatalogHolder.current(), category);
+  }
+
+  // 지정한 카탈로그 스냅샷 기준 메뉴 리스트 조회
+  public BaseResponse<List<MenuResponse>> getMenuList(MenuCatalog catalog, String category) {
+    log.info("메뉴 리스트 조회 시작 - category: {}, version: {}", category, catalog.getVersion());
 
     try {
       validateCategory(category);
 
-      List<Menu> menus;
+      MenuCategoryIndex index = catalog.getCategoryIndex();
+      List<MenuCatalog.Entry> menus;
 
       if ("모든 메뉴".equals(category)) {
         log.debug("모든 메뉴 카테고리 조회 실행");
-        menus = menuRepository.findByCategoryInAndIsActiveTrueOrderByNameAscTemperatureAsc(ALL_MENU_CATEGORIES);
+        menus = index.menusIn(ALL_MENU_CATEGORIES);
       } else if (INDIVIDUAL_CATEGORIES.contains(category)) {
         log.debug("개별 카테고리 조회 실행: {}", category);
-        menus = menuRepository.findByCategoryAndIsActiveTrueOrderByNameAscTemperatureAsc(category);
+        menus = index.menus(category);
       } else if (category == null || category.trim().isEmpty()) {
         log.debug("전체 메뉴 조회 실행");
-        menus = menuRepository.findByIsActiveTrueOrderByCategoryAscNameAscTemperatureAsc();
+        menus = index.allMenus();
       } else {
         log.warn("유효하지 않은 카테고리 요청: {}", category);
         throw new CustomException(MenuErrorCode.INVALID_CATEGORY);
@@ -67,7 +88,7 @@ public class MenuService {
         }
       }
 
-      List<MenuResponse> menuResponses = menuConverter.toResponseList(menus);
+      List<MenuResponse> menuResponses = menuConverter.toEntryResponseList(menus);
 
       log.info("메뉴 리스트 조회 완료 - category: {}, 결과 수: {}", category, menuResponses.size());
 
@@ -87,28 +108,31 @@ public class MenuService {
 
   // 카테고리 목록 및 각 카테고리별 메뉴 수 조회
   public BaseResponse<List<CategoryResponse>> getCategoryList() {
-    log.info("카테고리 목록 조회 시작");
+    return getCategoryList(menuCatalogHolder.current());
+  }
+
+  // 지정한 카탈로그 스냅샷 기준 카테고리 목록 조회
+  public BaseResponse<List<CategoryResponse>> getCategoryList(MenuCatalog catalog) {
+    log.info("카테고리 목록 조회 시작 - version: {}", catalog.getVersion());
 
     try {
+      // 카탈로그 색인에서 한 번에 집계 (DB 조회 없음)
+      MenuCategoryIndex index = catalog.getCategoryIndex();
       List<CategoryResponse> categories = new ArrayList<>();
 
-      List<Menu> allMenus = menuRepository.findByCategoryInAndIsActiveTrue(ALL_MENU_CATEGORIES);
-      categories.add(menuConverter.toCategoryResponse("모든메뉴", allMenus));
-      log.debug("모든메뉴 카테고리 추가 완료 - 메뉴 수: {}", allMenus.size());
+      int allMenuCount = index.countIn(ALL_MENU_CATEGORIES);
+      categories.add(menuConverter.toCategoryResponse("모든메뉴", allMenuCount));
+      log.debug("모든메뉴 카테고리 추가 완료 - 메뉴 수: {}", allMenuCount);
 
       int addedCategories = 0;
       for (String category : INDIVIDUAL_CATEGORIES) {
-        try {
-          List<Menu> categoryMenus = menuRepository.findByCategoryAndIsActiveTrue(category);
-          if (!categoryMenus.isEmpty()) {
-            categories.add(menuConverter.toCategoryResponse(category, categoryMenus));
-            addedCategories++;
-            log.debug("카테고리 '{}' 추가 완료 - 메뉴 수: {}", category, categoryMenus.size());
-          } else {
-            log.debug("카테고리 '{}' 메뉴 없음으로 제외", category);
-          }
-        } catch (Exception e) {
-          log.warn("카테고리 '{}' 조회 중 오류 발생, 해당 카테고리 제외: {}", category, e.getMessage());
+        int menuCount = index.count(category);
+        if (menuCount > 0) {
+          categories.add(menuConverter.toCategoryResponse(category, menuCount));
+          addedCategories++;
+          log.debug("카테고리 '{}' 추가 완료 - 메뉴 수: {}", category, menuCount);
+        } else {
+          log.debug("카테고리 '{}' 메뉴 없음으로 제외", category);
         }
       }
 
@@ -134,31 +158,116 @@ public class MenuService {
     }
   }
 
-  // 카테고리 유효성 검증
-  private void validateCategory(String category) {
+  // since 버전 이후 변경된 메뉴만 조회 (키오스크 델타 동기화)
+  public BaseResponse<MenuChangesResponse> getMenuChanges(Long since) {
+    log.info("메뉴 변경분 조회 시작 - since: {}", since);
+
+    MenuCatalog catalog = menuCatalogHolder.current();
+    long version = catalog.getVersion();
+
+    // 클라이언트가 이 노드보다 앞서 있거나 기록 범위를 벗어나면 전체 스냅샷으로 대체
+    Optional<Set<Long>> changed = since == null || since <= 0 || since > version
+        ? Optional.empty()
+        : menuCatalogHolder.changedSince(since);
+
+    if (changed.isEmpty()) {
+      List<MenuResponse> all = menuConverter.toEntryResponseList(catalog.getCategoryIndex().allMenus());
+      log.info("메뉴 변경분 조회 완료 (전체 스냅샷) - since: {}, version: {}, 메뉴 수: {}",
+          since, version, all.size());
+
+      return BaseResponse.success("메뉴 변경분 조회 성공", MenuChangesResponse.builder()
+          .version(version)
+          .fullSnapshot(true)
+          .updated(all)
+          .removed(Collections.emptyList())
+          .build());
+    }
+
+    List<MenuResponse> updated = new ArrayList<>();
+    List<Long> removed = new ArrayList<>();
+    for (Long menuId : changed.get()) {
+      MenuCatalog.Entry entry = catalog.findActive(menuId);
+      if (entry != null) {
+        updated.add(menuConverter.toResponse(entry));
+      } else {
+        removed.add(menuId);
+      }
+    }
+
+    log.info("메뉴 변경분 조회 완료 - since: {}, version: {}, 변경: {}, 제거: {}",
+        since, version, updated.size(), removed.size());
+
+    return BaseResponse.success("메뉴 변경분 조회 성공", MenuChangesResponse.builder()
+        .version(version)
+        .fullSnapshot(false)
+        .updated(updated)
+        .removed(removed)
+        .build());
+  }
+
+  // 메뉴 이름 검색 (음성/텍스트 입력 → 메뉴 매칭)
+  public BaseResponse<MenuSearchResponse> searchMenus(String query, int limit) {
+    log.info("메뉴 검색 시작 - query: {}, limit: {}", query, limit);
+
+    if (query == null || query.trim().isEmpty()) {
+      log.warn("빈 검색어 요청");
+      throw new CustomException(MenuErrorCode.INVALID_SEARCH_KEYWORD);
+    }
+
+    int size = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+    MenuSearchIndex.Result result = menuCatalogHolder.current().getSearchIndex().search(query, size);
+
+    log.info("메뉴 검색 완료 - query: {}, keyword: {}, temperature: {}, 결과 수: {}",
+        query, result.keyword(), result.temperature(), result.menus().size());
+
+    return BaseResponse.success("메뉴 검색 성공", MenuSearchResponse.builder()
+        .query(query)
+        .keyword(result.keyword())
+        .temperature(result.temperature())
+        .menus(menuConverter.toEntryResponseList(result.menus()))
+        .build());
+  }
+
+  // 실시간 인기 메뉴 조회 (판매 중인 메뉴만)
+  public BaseResponse<List<TrendingMenuResponse>> getTrendingMenus() {
+    log.info("인기 메뉴 조회 시작");
+
+    MenuCatalog catalog = menuCatalogHolder.current();
+    List<TrendingMenuResponse> trending = new ArrayList<>();
+
+    for (MenuTrendingService.Ranked ranked : menuTrendingService.ranking()) {
+      MenuCatalog.Entry entry = catalog.findActive(ranked.menuId());
+      if (entry == null) {
+        log.debug("인기 메뉴에서 제외 (비활성/삭제) - menuId: {}", ranked.menuId());
+        continue;
+      }
+
+      trending.add(TrendingMenuResponse.builder()
+          .rank(trending.size() + 1)
+          .score(Math.round(ranked.score() * 100) / 100.0)
+          .menu(menuConverter.toResponse(entry))
+          .build());
+    }
+
+    log.info("인기 메뉴 조회 완료 - 결과 수: {}", trending.size());
+
+    return BaseResponse.success("인기 메뉴 조회 성공", trending);
+  }
+
+  // 카테고리 유효성 검증 (조건부 요청의 304 판단 전에 컨트롤러에서도 호출)
+  // - 메뉴 리스트 조회가 실제로 처리하는 값만 통과: 빈 값(전체), "모든 메뉴", 개별 카테고리
+  public void validateCategory(String category) {
     if (category == null || category.trim().isEmpty()) {
       log.debug("카테고리가 null 또는 빈 값으로 전체 조회로 처리");
       return;
     }
 
-    // 허용된 카테고리 목록 구성
-    List<String> validCategories = new ArrayList<>();
-    validCategories.add("모든 메뉴");
-    validCategories.addAll(ALL_MENU_CATEGORIES);
-    validCategories.addAll(INDIVIDUAL_CATEGORIES);
-
-    // 대소문자 및 공백 무시하고 검증
-    String trimmedCategory = category.trim();
-    boolean isValid = validCategories.stream()
-        .anyMatch(valid -> valid.equalsIgnoreCase(trimmedCategory));
-
-    if (!isValid) {
-      log.error("유효하지 않은 카테고리 요청: '{}'. 허용된 카테고리: {}",
-          trimmedCategory, validCategories);
+    if (!"모든 메뉴".equals(category) && !INDIVIDUAL_CATEGORIES.contains(category)) {
+      log.warn("유효하지 않은 카테고리 요청: '{}'. 허용된 카테고리: 모든 메뉴, {}", category, INDIVIDUAL_CATEGORIES);
       throw new CustomException(MenuErrorCode.INVALID_CATEGORY);
     }
 
-    log.debug("카테고리 유효성 검증 통과: '{}'", trimmedCategory);
+    log.debug("카테고리 유효성 검증 통과: '{}'", category);
   }
 
   // 메뉴 ID로 메뉴 불러오기
@@ -0,0 +1,211 @@
+package likelion.kitalk.touch.service;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import likelion.kitalk.touch.catalog.MenuCatalog;
+import likelion.kitalk.touch.dto.CartItemDetail;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 실시간 인기 메뉴 (시간 감쇠 판매량)
+// - 주문 저장 시 Redis sorted set에 수량 × 2^((now - landmark) / halfLife) 만큼 더함 (forward decay)
+//   → 기존 점수를 매번 깎지 않아도 최근 판매가 더 큰 가중치를 가짐, order_items 집계 쿼리 없음
+// - 가중치가 너무 커지면 스크립트 안에서 전체 점수를 한 번에 줄이고 landmark를 현재 시각으로 옮김
+// - 상위 N개는 주기적으로 읽어 메모리에 보관 (메뉴 응답의 popular 판단은 Redis 조회 없음)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MenuTrendingService {
+
+  private static final String SCORE_KEY = "menu_trending:scores";
+  private static final String STATE_KEY = "menu_trending:state";
+
+  // KEYS[1]=scores, KEYS[2]=state, ARGV[1]=now(ms), ARGV[2]=반감기(ms), ARGV[3..]=menuId, 수량 반복
+  private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+      local now = tonumber(ARGV[1])
+      local halfLife = tonumber(ARGV[2])
+      local landmark = tonumber(redis.call('HGET', KEYS[2], 'landmark'))
+      if not landmark then
+        landmark = now
+        redis.call('HSET', KEYS[2], 'landmark', landmark)
+      end
+      local exponent = (now - landmark) / halfLife
+      if exponent > 40 then
+        redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(math.pow(2, -exponent)))
+        redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '0.001')
+        landmark = now
+        redis.call('HSET', KEYS[2], 'landmark', landmark)
+        exponent = 0
+      elseif exponent < 0 then
+        exponent = 0
+      end
+      local weight = math.pow(2, exponent)
+      for i = 3, #ARGV, 2 do
+        redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[i + 1]) * weight, ARGV[i])
+      end
+      return landmark
+      """, Long.class);
+
+  // KEYS[1]=scores, KEYS[2]=state, ARGV[1]=조회 개수 → { landmark, menuId, score, menuId, score, ... }
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> TOP_SCRIPT = new DefaultRedisScript<>("""
+      local result = { redis.call('HGET', KEYS[2], 'landmark') or '' }
+      local top = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES')
+      for i = 1, #top do
+        result[#result + 1] = top[i]
+      end
+      return result
+      """, List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  // 판매량 가중치가 절반이 되는 시간
+  @Value("${kitalk.menu.trending.half-life-minutes:60}")
+  private long halfLifeMinutes;
+
+  // popular로 표시할 상위 메뉴 수
+  @Value("${kitalk.menu.trending.size:5}")
+  private int size;
+
+  // 이 점수(감쇠 후 판매 수량) 미만이면 인기 메뉴로 보지 않음
+  @Value("${kitalk.menu.trending.min-score:1.0}")
+  private double minScore;
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  // 주문 저장(커밋) 후 판매 수량 반영 - 실패해도 주문 처리에는 영향 없음
+  public void recordOrder(List<CartItemDetail> orders) {
+    if (orders == null || orders.isEmpty()) {
+      return;
+    }
+
+    // 같은 메뉴가 여러 줄이면 합쳐서 한 번만 ZINCRBY
+    Map<Long, Integer> quantities = new TreeMap<>();
+    for (CartItemDetail order : orders) {
+      if (order.getMenu_id() != null && order.getQuantity() != null && order.getQuantity() > 0) {
+        quantities.merge(order.getMenu_id(), order.getQuantity(), Integer::sum);
+      }
+    }
+    if (quantities.isEmpty()) {
+      return;
+    }
+
+    List<String> args = new ArrayList<>(2 + quantities.size() * 2);
+    args.add(String.valueOf(System.currentTimeMillis()));
+    args.add(String.valueOf(halfLifeMillis()));
+    quantities.forEach((menuId, quantity) -> {
+      args.add(String.valueOf(menuId));
+      args.add(String.valueOf(quantity));
+    });
+
+    try {
+      redisTemplate.execute(RECORD_SCRIPT, List.of(SCORE_KEY, STATE_KEY), args.toArray());
+      log.debug("인기 메뉴 판매량 반영 완료 - 메뉴 수: {}", quantities.size());
+    } catch (Exception e) {
+      log.warn("인기 메뉴 판매량 반영 실패 - 메뉴 수: {}", quantities.size(), e);
+    }
+  }
+
+  // 현재 인기 메뉴 순위 (점수 높은 순)
+  public List<Ranked> ranking() {
+    return snapshot.ranking();
+  }
+
+  // 응답용 popular 판단 (실시간 집계가 비어 있으면 기존 popular 컬럼 사용)
+  public boolean isPopular(MenuCatalog.Entry entry) {
+    Snapshot current = snapshot;
+    if (current.popularIds().isEmpty()) {
+      return entry.popular();
+    }
+    return current.popularIds().contains(entry.id());
+  }
+
+  // 인기 메뉴 구성 자체의 해시 (같은 구성이면 어느 노드에서나, 재시작 후에도 같은 값 → 메뉴 응답 ETag/가격 뷰에 사용)
+  public long popularSignature() {
+    return snapshot.signature();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${kitalk.menu.trending.refresh-interval-ms:10000}",
+      initialDelayString = "${kitalk.menu.trending.refresh-interval-ms:10000}")
+  public void refresh() {
+    try {
+      @SuppressWarnings("unchecked")
+      List<Object> raw = redisTemplate.execute(TOP_SCRIPT, List.of(SCORE_KEY, STATE_KEY),
+          String.valueOf(size));
+      if (raw == null || raw.isEmpty() || String.valueOf(raw.get(0)).isEmpty()) {
+        return;
+      }
+
+      // 저장된 점수를 현재 시각 기준 판매 수량으로 환산
+      long landmark = Long.parseLong(String.valueOf(raw.get(0)));
+      double decay = Math.pow(2, -(double) (System.currentTimeMillis() - landmark) / halfLifeMillis());
+
+      List<Ranked> ranking = new ArrayList<>();
+      for (int i = 1; i + 1 < raw.size(); i += 2) {
+        double score = Double.parseDouble(String.valueOf(raw.get(i + 1))) * decay;
+        if (score >= minScore) {
+          ranking.add(new Ranked(Long.parseLong(String.valueOf(raw.get(i))), score));
+        }
+      }
+
+      Set<Long> popularIds = new HashSet<>();
+      ranking.forEach(ranked -> popularIds.add(ranked.menuId()));
+
+      Snapshot previous = snapshot;
+      snapshot = new Snapshot(Collections.unmodifiableList(ranking),
+          Collections.unmodifiableSet(popularIds), signatureOf(popularIds));
+
+      if (!previous.popularIds().equals(popularIds)) {
+        log.info("인기 메뉴 변경 - menuIds: {}", popularIds);
+      }
+    } catch (Exception e) {
+      // 이전 순위를 그대로 유지
+      log.warn("인기 메뉴 조회 실패 - 기존 순위 유지", e);
+    }
+  }
+
+  // 정렬한 메뉴 ID들의 SHA-256 앞 8바이트 (int 해시보다 충돌 가능성이 훨씬 낮음)
+  private static long signatureOf(Set<Long> popularIds) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+      for (Long menuId : new TreeSet<>(popularIds)) {
+        buffer.clear();
+        digest.update(buffer.putLong(menuId).array());
+      }
+      return ByteBuffer.wrap(digest.digest()).getLong();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 사용 불가", e);
+    }
+  }
+
+  private long halfLifeMillis() {
+    return Math.max(1L, halfLifeMinutes) * 60_000L;
+  }
+
+  // score: 현재 시각 기준으로 감쇠한 판매 수량
+  public record Ranked(long menuId, double score) {
+  }
+
+  private record Snapshot(List<Ranked> ranking, Set<Long> popularIds, long signature) {
+
+    static final Snapshot EMPTY = new Snapshot(Collections.emptyList(), Collections.emptySet(),
+        signatureOf(Collections.emptySet()));
+  }
+}
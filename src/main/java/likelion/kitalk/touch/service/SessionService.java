@@ -1,59 +1,37 @@
 package likelion.kitalk.touch.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import likelion.kitalk.touch.cart.RedisCartStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SessionService {
 
-  private final RedisTemplate<String, String> redisTemplate;
-  private final ObjectMapper objectMapper;
-
-  // 세션 키 prefix
-  private static final String SESSION_KEY_PREFIX = "session:";
+  // 장바구니/포장 방식/전화번호/진행 단계가 모두 세션 해시 하나에 있음 (키 구성은 RedisCartStore에서만)
+  private final RedisCartStore cartStore;
 
   // 새 세션 생성
   public String createSession(int expireMinutes) {
     String sessionId = UUID.randomUUID().toString();
 
     try {
-      LocalDateTime now = LocalDateTime.now();
-      LocalDateTime expiresAt = now.plusMinutes(expireMinutes);
-
-      // 세션 데이터 구조
-      Map<String, Object> sessionData = new HashMap<>();
-      sessionData.put("created_at", now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-      sessionData.put("expires_at", expiresAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-      sessionData.put("step", "started");
-
-      // data 객체
-      Map<String, Object> data = new HashMap<>();
-      data.put("menu_item", null);
-      data.put("quantity", null);
-      data.put("packaging_type", null);
-      sessionData.put("data", data);
-
-      // JSON으로 직렬화 후 Redis에 저장
-      String sessionJson = objectMapper.writeValueAsString(sessionData);
-      String sessionKey = SESSION_KEY_PREFIX + sessionId;
-
-      redisTemplate.opsForValue().set(sessionKey, sessionJson, expireMinutes * 60L, TimeUnit.SECONDS);
+      // 빈 장바구니 + 진행 단계로 세션 해시 생성
+      cartStore.setStep(sessionId, "started", Duration.ofMinutes(expireMinutes));
 
       log.info("세션 생성 완료: {}", sessionId);
       return sessionId;
 
-    } catch (JsonProcessingException e) {
+    } catch (Exception e) {
       log.error("세션 생성 실패: {}", e.getMessage());
       throw new RuntimeException("세션 생성 실패", e);
     }
@@ -62,20 +40,30 @@ public class SessionService {
   // 세션 조회
   public Map<String, Object> getSession(String sessionId) {
     try {
-      String sessionKey = SESSION_KEY_PREFIX + sessionId;
-      String sessionJson = redisTemplate.opsForValue().get(sessionKey);
+      RedisCartStore.CartView view = cartStore.load(sessionId);
 
-      if (sessionJson == null) {
+      if (view.cart() == null) {
         log.warn("세션 없음 또는 만료: {}", sessionId);
         return null;
       }
 
-      @SuppressWarnings("unchecked")
-      Map<String, Object> sessionData = objectMapper.readValue(sessionJson, Map.class);
+      // 세션 데이터 구조
+      Map<String, Object> sessionData = new HashMap<>();
+      sessionData.put("created_at", format(view.cart().createdAt()));
+      sessionData.put("updated_at", format(view.cart().updatedAt()));
+      sessionData.put("step", view.step() != null ? view.step() : "started");
+
+      // data 객체
+      Map<String, Object> data = new HashMap<>();
+      data.put("total_items", view.cart().size());
+      data.put("packaging_type", view.packagingType());
+      data.put("completed_order_id", view.completedOrderId());
+      sessionData.put("data", data);
+
       log.debug("세션 조회 성공: {}", sessionId);
       return sessionData;
 
-    } catch (JsonProcessingException e) {
+    } catch (Exception e) {
       log.error("세션 조회 실패: {}", e.getMessage());
       return null;
     }
@@ -84,10 +72,7 @@ public class SessionService {
   // 세션 삭제
   public boolean deleteSession(String sessionId) {
     try {
-      String sessionKey = SESSION_KEY_PREFIX + sessionId;
-      Boolean result = redisTemplate.delete(sessionKey);
-
-      if (Boolean.TRUE.equals(result)) {
+      if (cartStore.delete(sessionId)) {
         log.info("세션 삭제 완료: {}", sessionId);
         return true;
       } else {
@@ -104,10 +89,7 @@ public class SessionService {
   // 세션 만료 시간 연장
   public boolean extendSession(String sessionId, int expireMinutes) {
     try {
-      String sessionKey = SESSION_KEY_PREFIX + sessionId;
-      Boolean result = redisTemplate.expire(sessionKey, expireMinutes * 60L, TimeUnit.SECONDS);
-
-      if (Boolean.TRUE.equals(result)) {
+      if (cartStore.expire(sessionId, Duration.ofMinutes(expireMinutes))) {
         log.info("세션 만료시간 연장: {} (+{}분)", sessionId, expireMinutes);
         return true;
       } else {
@@ -124,16 +106,12 @@ public class SessionService {
   // 모든 세션 조회
   public Map<String, Map<String, Object>> getAllSessions() {
     try {
-      Set<String> sessionKeys = redisTemplate.keys(SESSION_KEY_PREFIX + "*");
       Map<String, Map<String, Object>> sessions = new HashMap<>();
 
-      if (sessionKeys != null) {
-        for (String key : sessionKeys) {
-          String sessionId = key.replace(SESSION_KEY_PREFIX, "");
-          Map<String, Object> sessionData = getSession(sessionId);
-          if (sessionData != null) {
-            sessions.put(sessionId, sessionData);
-          }
+      for (String sessionId : cartStore.sessionIds()) {
+        Map<String, Object> sessionData = getSession(sessionId);
+        if (sessionData != null) {
+          sessions.put(sessionId, sessionData);
         }
       }
 
@@ -151,15 +129,11 @@ public class SessionService {
     try {
       // Redis TTL로 자동 만료되므로 실제로는 불필요
       // 하지만 수동 정리가 필요한 경우를 위해 구현
-      Set<String> sessionKeys = redisTemplate.keys(SESSION_KEY_PREFIX + "*");
       int expiredCount = 0;
 
-      if (sessionKeys != null) {
-        for (String key : sessionKeys) {
-          Long ttl = redisTemplate.getExpire(key);
-          if (ttl != null && ttl == -2) {  // 키가 존재하지 않음 (만료됨)
-            expiredCount++;
-          }
+      for (String sessionId : cartStore.sessionIds()) {
+        if (!cartStore.exists(sessionId)) {  // 조회 사이에 만료됨
+          expiredCount++;
         }
       }
 
@@ -175,12 +149,10 @@ public class SessionService {
   // 세션 통계 정보
   public Map<String, Object> getSessionStats() {
     try {
-      Set<String> sessionKeys = redisTemplate.keys(SESSION_KEY_PREFIX + "*");
-      int totalSessions = sessionKeys != null ? sessionKeys.size() : 0;
-
       // 단계별 세션 수 계산
       Map<String, Integer> stepCounts = new HashMap<>();
       Map<String, Map<String, Object>> sessions = getAllSessions();
+      int totalSessions = sessions.size();
 
       for (Map<String, Object> sessionData : sessions.values()) {
         String step = (String) sessionData.getOrDefault("step", "unknown");
@@ -214,7 +186,11 @@ public class SessionService {
       return false;
     }
 
-    String sessionKey = SESSION_KEY_PREFIX + sessionId;
-    return Boolean.TRUE.equals(redisTemplate.hasKey(sessionKey));
+    return cartStore.exists(sessionId);
+  }
+
+  private String format(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+        .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
   }
 }
\ No newline at end of file
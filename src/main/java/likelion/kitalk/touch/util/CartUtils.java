@@ -1,16 +1,18 @@
 package likelion.kitalk.touch.util;
 
+import likelion.kitalk.touch.cart.Cart;
+import likelion.kitalk.touch.cart.CartLine;
+import likelion.kitalk.touch.cart.PricedCart;
+import likelion.kitalk.touch.catalog.MenuCatalog;
+import likelion.kitalk.touch.catalog.MenuCatalogHolder;
 import likelion.kitalk.touch.dto.CartItemDetail;
 import likelion.kitalk.touch.dto.response.CartResponse;
 import likelion.kitalk.touch.dto.response.PackagingResponse;
-import likelion.kitalk.touch.entity.Menu;
-import likelion.kitalk.touch.service.MenuService;
+import likelion.kitalk.touch.service.MenuTrendingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -21,80 +23,70 @@ import java.util.Map;
 @Slf4j
 public class CartUtils {
 
-    private final MenuService menuService;
+    private final MenuCatalogHolder menuCatalogHolder;
+    private final MenuTrendingService menuTrendingService;
 
-    // 빈 장바구니 생성
-    public Map<String, Object> createEmptyCart() {
-        Map<String, Object> cartData = new HashMap<>();
-        String now = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    // 가격 뷰 계산 (저장된 뷰가 현재 장바구니/카탈로그/인기 메뉴 기준이면 그대로 사용)
+    public PricedCart price(Cart cart, PricedCart materialized) {
+        MenuCatalog catalog = menuCatalogHolder.current();
+        long popularSignature = menuTrendingService.popularSignature();
 
-        cartData.put("items", new ArrayList<>());
-        cartData.put("createdAt", now);
-        cartData.put("updatedAt", now);
+        if (materialized != null
+            && materialized.isFresh(cart.version(), catalog.getVersion(), popularSignature)) {
+            return materialized;
+        }
 
-        return cartData;
-    }
+        List<CartItemDetail> orders = convertToCartItemDetails(cart.lines());
+        int totalPrice = 0;
+        for (CartItemDetail order : orders) {
+            totalPrice += order.getPrice() * order.getQuantity();
+        }
 
-    // 장바구니에서 특정 메뉴 찾기
-    public Map<String, Object> findCartItem(List<Map<String, Object>> items, Long menuId) {
-        return items.stream()
-                .filter(item -> ((Number) item.get("menuId")).longValue() == menuId)
-                .findFirst()
-                .orElse(null);
+        return new PricedCart(cart.version(), catalog.getVersion(), popularSignature, orders, totalPrice);
     }
 
     // 총 가격 계싼
-    public int calculateTotalPrice(List<Map<String, Object>> items) {
+    public int calculateTotalPrice(List<CartLine> lines) {
+        MenuCatalog catalog = menuCatalogHolder.current();
         int totalPrice = 0;
 
-        for (Map<String, Object> item : items) {
-            try {
-                Long menuId = ((Number) item.get("menuId")).longValue();
-                Integer quantity = (Integer) item.get("quantity");
-
-                // MySQL에서 메뉴 정보 조회
-                Menu menu = menuService.getMenuById(menuId);
-                totalPrice += menu.getPrice() * quantity;
-
-            } catch (Exception e) {
-                log.warn("메뉴 가격 계산 중 오류 - menuId: {}, error: {}",
-                    item.get("menuId"), e.getMessage());
-                // 오류 발생시 해당 항목은 0원으로 처리
+        for (CartLine line : lines) {
+            // 메모리 카탈로그에서 메뉴 정보 조회
+            MenuCatalog.Entry menu = catalog.findActive(line.menuId());
+            if (menu == null) {
+                log.warn("메뉴 가격 계산 중 메뉴 없음 - menuId: {}", line.menuId());
+                continue;
             }
+            totalPrice += menu.price() * line.quantity();
         }
 
         return totalPrice;
     }
 
-    // Redis 장바구니 아이템을 CartItemDetail로 변환
-    public List<CartItemDetail> convertToCartItemDetails(List<Map<String, Object>> items) {
-        List<CartItemDetail> cartItems = new ArrayList<>();
-
-        for (Map<String, Object> item : items) {
-            try {
-                Long menuId = ((Number) item.get("menuId")).longValue();
-                Integer quantity = (Integer) item.get("quantity");
-
-                // MySQL에서 메뉴 정보 조회
-                Menu menu = menuService.getMenuById(menuId);
-
-                CartItemDetail cartItem = CartItemDetail.builder()
-                        .menu_id(menuId)
-                        .menu_item(menu.getName())
-                        .price(menu.getPrice())
-                        .quantity(quantity)
-                        .popular(menu.getIsPopular() != null ? menu.getIsPopular() : false)
-                        .temp(menu.getTemperature())
-                        .profile(menu.getProfile())
-                        .build();
-
-                cartItems.add(cartItem);
-
-            } catch (Exception e) {
-                log.error("장바구니 아이템 변환 중 오류 - menuId: {}, error: {}",
-                    item.get("menuId"), e.getMessage());
-                // 오류 발생한 아이템은 제외하고 계속 진행
+    // 장바구니 메뉴 줄을 CartItemDetail로 변환
+    public List<CartItemDetail> convertToCartItemDetails(List<CartLine> lines) {
+        MenuCatalog catalog = menuCatalogHolder.current();
+        List<CartItemDetail> cartItems = new ArrayList<>(lines.size());
+
+        for (CartLine line : lines) {
+            // 메모리 카탈로그에서 메뉴 정보 조회
+            MenuCatalog.Entry menu = catalog.findActive(line.menuId());
+            if (menu == null) {
+                log.error("장바구니 아이템 변환 중 메뉴 없음 - menuId: {}", line.menuId());
+                continue;
             }
+
+            CartItemDetail cartItem = CartItemDetail.builder()
+                    .menu_id(line.menuId())
+                    .menu_item(menu.name())
+                    .price(menu.price())
+                    .quantity(line.quantity())
+                    .popular(menuTrendingService.isPopular(menu))
+                    .temp(menu.temperature())
+                    .profile(menu.profile())
+                    .build();
+
+            cartItems.add(cartItem);
         }
 
         return cartItems;
@@ -119,6 +111,7 @@ public class CartUtils {
         response.put("total_price", cartResponse.getTotal_price()); // 새로 추가
         response.put("packaging", cartResponse.getPackaging());     // 새로 추가
         response.put("session_id", cartResponse.getSession_id());   // sessionId → session_id
+        response.put("version", cartResponse.getVersion());
         return response;
     }
 
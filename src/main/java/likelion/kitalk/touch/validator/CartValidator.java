@@ -1,13 +1,16 @@
 package likelion.kitalk.touch.validator;
 
 import likelion.kitalk.global.exception.CustomException;
+import likelion.kitalk.touch.cart.CartOperation;
+import likelion.kitalk.touch.catalog.MenuCatalog;
+import likelion.kitalk.touch.catalog.MenuCatalogHolder;
 import likelion.kitalk.touch.dto.request.CartAddRequest;
+import likelion.kitalk.touch.dto.request.CartBatchRequest;
 import likelion.kitalk.touch.dto.request.CartRemoveRequest;
 import likelion.kitalk.touch.dto.request.CartUpdateRequest;
 import likelion.kitalk.touch.dto.request.PackagingRequest;
 import likelion.kitalk.touch.exception.CartErrorCode;
 import likelion.kitalk.touch.exception.MenuErrorCode;
-import likelion.kitalk.touch.service.MenuService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -18,11 +21,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CartValidator {
 
-  private final MenuService menuService;
+  private final MenuCatalogHolder menuCatalogHolder;
 
   // 유효한 포장 방식 목록
   private static final List<String> VALID_PACKAGING_TYPES = Arrays.asList("포장", "매장", "takeout", "dine-in");
 
+  // 일괄 변경 한 번에 허용하는 최대 동작 수
+  private static final int MAX_BATCH_OPERATIONS = 20;
+
   // 장바구니 추가 요청 검증
   public void validateAddRequest(String sessionId, CartAddRequest request) {
     validateSessionId(sessionId);
@@ -54,6 +60,42 @@ public class CartValidator {
     validatePackagingType(request.getPackagingType());
   }
 
+  // 일괄 변경 요청 검증 (동작 하나라도 잘못되면 전체 거부)
+  public void validateBatchRequest(String sessionId, CartBatchRequest request) {
+    validateSessionId(sessionId);
+
+    List<CartBatchRequest.CartBatchOperation> operations = request.getOperations();
+    if (operations == null || operations.isEmpty() || operations.size() > MAX_BATCH_OPERATIONS) {
+      throw new CustomException(CartErrorCode.INVALID_BATCH_OPERATION);
+    }
+
+    MenuCatalog catalog = menuCatalogHolder.current();
+    for (CartBatchRequest.CartBatchOperation operation : operations) {
+      CartOperation.Type type = CartOperation.Type.of(operation.getType());
+      if (type == null) {
+        throw new CustomException(CartErrorCode.INVALID_BATCH_OPERATION);
+      }
+
+      switch (type) {
+        case ADD -> {
+          validateMenuId(operation.getMenuId());
+          validateQuantity(operation.getQuantity());
+          validateMenuExists(catalog, operation.getMenuId());
+        }
+        case SET -> {
+          validateMenuId(operation.getMenuId());
+          // quantity 검증 (0은 허용 - 삭제 의미)
+          if (operation.getQuantity() == null || operation.getQuantity() < 0) {
+            throw new CustomException(CartErrorCode.INVALID_QUANTITY);
+          }
+          validateMenuExists(catalog, operation.getMenuId());
+        }
+        case REMOVE -> validateMenuId(operation.getMenuId());
+        case PACKAGING -> validatePackagingType(operation.getPackagingType());
+      }
+    }
+  }
+
   // 세션 ID만 검증
   public void validateSessionOnly(String sessionId) {
     validateSessionId(sessionId);
@@ -80,9 +122,11 @@ public class CartValidator {
 
   // 실제 메뉴 존재 여부 확인
   private void validateMenuExists(Long menuId) {
-    try {
-      menuService.getMenuById(menuId);
-    } catch (Exception e) {
+    validateMenuExists(menuCatalogHolder.current(), menuId);
+  }
+
+  private void validateMenuExists(MenuCatalog catalog, Long menuId) {
+    if (catalog.findActive(menuId) == null) {
       throw new CustomException(MenuErrorCode.MENU_NOT_FOUND);
     }
   }
@@ -92,6 +136,9 @@ public class CartValidator {
       throw new CustomException(CartErrorCode.INVALID_REQUEST);
     }
 
+    // 항목마다 카탈로그를 다시 가져오지 않고 스냅샷 하나로 전체 메뉴 확인
+    MenuCatalog catalog = menuCatalogHolder.current();
+
     for (CartUpdateRequest.CartUpdateItem item : orders) {
       if (item.getMenu_id() == null) {
         throw new CustomException(CartErrorCode.INVALID_MENU_ID);
@@ -106,7 +153,7 @@ public class CartValidator {
       }
       
       // 실제 메뉴 존재 여부 확인
-      validateMenuExists(item.getMenu_id());
+      validateMenuExists(catalog, item.getMenu_id());
 
       // quantity 검증 (0은 허용 - 삭제 의미)
       if (item.getQuantity() < 0) {
@@ -0,0 +1,84 @@
+package likelion.kitalk.touch.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CartHashCodecTest {
+
+  private static final long NOW = 5_000L;
+
+  @Test
+  void encodedLinesDecodeBackInOrder() {
+    List<CartLine> lines = List.of(new CartLine(7L, 2), new CartLine(3L, 1), new CartLine(12L, 4));
+
+    List<Object> flat = new ArrayList<>(CartHashCodec.encodeLines(lines));
+    flat.addAll(List.of("_version", "3", "_createdAt", "1000", "_updatedAt", "2000"));
+
+    Cart cart = CartHashCodec.decode(flat, 0, flat.size(), NOW);
+
+    assertThat(cart.lines()).containsExactlyElementsOf(lines);
+    assertThat(cart.version()).isEqualTo(3L);
+    assertThat(cart.createdAt()).isEqualTo(1000L);
+    assertThat(cart.updatedAt()).isEqualTo(2000L);
+  }
+
+  @Test
+  void encodeLinesSkipsNonPositiveQuantities() {
+    List<String> pairs = CartHashCodec.encodeLines(List.of(new CartLine(1L, 0), new CartLine(2L, 3), new CartLine(4L, -1)));
+
+    assertThat(pairs).containsExactly("2", "3");
+  }
+
+  @Test
+  void decodeSkipsSessionFieldsAndZeroQuantities() {
+    List<Object> flat = List.of(
+        "_view", "{\"orders\":[]}",
+        "_packaging", "포장",
+        "_phone", "010-1234-5678",
+        "5", "0",
+        "9", "2");
+
+    Cart cart = CartHashCodec.decode(flat, 0, flat.size(), NOW);
+
+    assertThat(cart.lines()).containsExactly(new CartLine(9L, 2));
+    assertThat(cart.version()).isZero();
+    assertThat(cart.createdAt()).isEqualTo(NOW);
+    assertThat(cart.updatedAt()).isEqualTo(NOW);
+  }
+
+  @Test
+  void decodeReadsOnlyTheRequestedRange() {
+    List<Object> flat = List.of("ok", "1", "4", "1", "_version", "2", "8", "5");
+
+    Cart cart = CartHashCodec.decode(flat, 2, 6, NOW);
+
+    assertThat(cart.lines()).containsExactly(new CartLine(4L, 1));
+    assertThat(cart.version()).isEqualTo(2L);
+  }
+
+  @Test
+  void decodeAcceptsLegacyIsoTimestamps() {
+    LocalDateTime createdAt = LocalDateTime.of(2025, 8, 1, 12, 30);
+    List<Object> flat = List.of("_createdAt", createdAt.toString(), "_updatedAt", "");
+
+    Cart cart = CartHashCodec.decode(flat, 0, flat.size(), NOW);
+
+    assertThat(cart.createdAt())
+        .isEqualTo(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    assertThat(cart.updatedAt()).isEqualTo(NOW);
+  }
+
+  @Test
+  void fieldOfFindsFieldOrReturnsNull() {
+    List<Object> flat = List.of("1", "2", "_packaging", "매장", "_step", "phone");
+
+    assertThat(CartHashCodec.fieldOf(flat, 0, flat.size(), CartHashCodec.PACKAGING_FIELD)).isEqualTo("매장");
+    assertThat(CartHashCodec.fieldOf(flat, 0, flat.size(), CartHashCodec.PHONE_FIELD)).isNull();
+    assertThat(CartHashCodec.fieldOf(flat, 0, 2, CartHashCodec.STEP_FIELD)).isNull();
+  }
+}
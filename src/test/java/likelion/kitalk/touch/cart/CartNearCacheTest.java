@@ -0,0 +1,87 @@
+package likelion.kitalk.touch.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CartNearCacheTest {
+
+  private CartNearCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new CartNearCache(new RedisProperties());
+    ReflectionTestUtils.setField(cache, "enabled", true);
+    ReflectionTestUtils.setField(cache, "maxSessions", 100);
+    cache.trackingStarted();
+  }
+
+  @Test
+  void reservedLoadIsCached() {
+    RedisCartStore.CartView view = view();
+
+    Object token = cache.reserve("s1");
+    cache.put("s1", token, view);
+
+    assertThat(cache.get("s1")).isSameAs(view);
+  }
+
+  @Test
+  void reservationThatLosesToInvalidationIsNotCached() {
+    Object token = cache.reserve("s1");
+    cache.onInvalidate(invalidate(RedisCartStore.SESSION_KEY_PREFIX + "s1"));
+    cache.put("s1", token, view());
+
+    assertThat(cache.get("s1")).isNull();
+  }
+
+  @Test
+  void invalidateMessageEvictsEntry() {
+    cache.put("s1", cache.reserve("s1"), view());
+    cache.put("s2", cache.reserve("s2"), view());
+
+    cache.onInvalidate(invalidate(RedisCartStore.SESSION_KEY_PREFIX + "s1", "other:s2"));
+
+    assertThat(cache.get("s1")).isNull();
+    assertThat(cache.get("s2")).isNotNull();
+  }
+
+  @Test
+  void invalidateWithoutKeysClearsEverything() {
+    cache.put("s1", cache.reserve("s1"), view());
+
+    cache.onInvalidate(Arrays.asList("invalidate", null));
+
+    assertThat(cache.get("s1")).isNull();
+  }
+
+  @Test
+  void trackingDisconnectClearsAndDisablesCache() {
+    cache.put("s1", cache.reserve("s1"), view());
+    Object pending = cache.reserve("s2");
+
+    cache.trackingLost();
+
+    assertThat(cache.get("s1")).isNull();
+    assertThat(cache.reserve("s3")).isNull();
+    cache.put("s2", pending, view());
+
+    // 추적이 다시 켜져도 끊기기 전 내용은 남아 있지 않음
+    cache.trackingStarted();
+    assertThat(cache.get("s1")).isNull();
+    assertThat(cache.get("s2")).isNull();
+  }
+
+  private static List<Object> invalidate(String... keys) {
+    return List.of("invalidate", List.of((Object[]) keys));
+  }
+
+  private static RedisCartStore.CartView view() {
+    return new RedisCartStore.CartView(Cart.empty(0L), null, null, null, null, null);
+  }
+}
@@ -0,0 +1,44 @@
+package likelion.kitalk.touch.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CartReconciliationTest {
+
+  @Test
+  void desiredLinesKeepsLastQuantityInFirstSeenOrderAndDropsZero() {
+    List<CartLine> desired = CartReconciliation.desiredLines(List.of(
+        new CartLine(1L, 2),
+        new CartLine(2L, 1),
+        new CartLine(1L, 3),
+        new CartLine(3L, 0),
+        new CartLine(2L, 0),
+        new CartLine(4L, 1)));
+
+    assertThat(desired).containsExactly(new CartLine(1L, 3), new CartLine(4L, 1));
+  }
+
+  @Test
+  void countsAddedUpdatedAndRemovedMenus() {
+    List<CartLine> previous = List.of(new CartLine(1L, 1), new CartLine(2L, 2), new CartLine(3L, 1));
+    List<CartLine> desired = List.of(new CartLine(2L, 5), new CartLine(3L, 1), new CartLine(4L, 1));
+
+    assertThat(CartReconciliation.of(previous, desired)).isEqualTo(new CartReconciliation(1, 1, 1));
+  }
+
+  @Test
+  void emptyRequestRemovesEverything() {
+    List<CartLine> previous = List.of(new CartLine(1L, 1), new CartLine(2L, 2));
+
+    assertThat(CartReconciliation.of(previous, List.of())).isEqualTo(new CartReconciliation(0, 0, 2));
+  }
+
+  @Test
+  void sameCartHasNoChanges() {
+    List<CartLine> lines = List.of(new CartLine(1L, 1), new CartLine(2L, 2));
+
+    assertThat(CartReconciliation.of(lines, lines)).isEqualTo(new CartReconciliation(0, 0, 0));
+  }
+}
@@ -0,0 +1,46 @@
+package likelion.kitalk.touch.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulJamoTest {
+
+  @Test
+  void normalizeRemovesWhitespaceAndLowercases() {
+    assertThat(HangulJamo.normalize(" Vanilla 라떼 ")).isEqualTo("vanilla라떼");
+    assertThat(HangulJamo.normalize(null)).isEmpty();
+  }
+
+  @Test
+  void decomposeSplitsSyllablesIntoCompatibilityJamo() {
+    assertThat(HangulJamo.decompose("라떼")).isEqualTo("ㄹㅏㄸㅔ");
+    assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+    assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+  }
+
+  @Test
+  void decomposeSplitsStandaloneCompoundJamoAndKeepsOtherCharacters() {
+    assertThat(HangulJamo.decompose("ㅘㄳ")).isEqualTo("ㅗㅏㄱㅅ");
+    assertThat(HangulJamo.decompose("a1")).isEqualTo("a1");
+  }
+
+  @Test
+  void decomposedPartialInputIsPrefixOfDecomposedName() {
+    assertThat(HangulJamo.decompose("아메리카노")).startsWith(HangulJamo.decompose("아멜"));
+  }
+
+  @Test
+  void chosungExtractsInitialConsonants() {
+    assertThat(HangulJamo.chosung("아메리카노")).isEqualTo("ㅇㅁㄹㅋㄴ");
+    assertThat(HangulJamo.chosung("a라떼")).isEqualTo("aㄹㄸ");
+  }
+
+  @Test
+  void isChosungOnlyAcceptsConsonantsOnly() {
+    assertThat(HangulJamo.isChosungOnly("ㅇㅁㄹ")).isTrue();
+    assertThat(HangulJamo.isChosungOnly("ㅇ아")).isFalse();
+    assertThat(HangulJamo.isChosungOnly("ㅏ")).isFalse();
+    assertThat(HangulJamo.isChosungOnly("")).isFalse();
+  }
+}
@@ -0,0 +1,61 @@
+package likelion.kitalk.touch.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import likelion.kitalk.touch.entity.Menu;
+import org.junit.jupiter.api.Test;
+
+class MenuCatalogTest {
+
+  private final MenuCatalog catalog = MenuCatalog.of(3L, "fp", List.of(
+      menu(30L, "카페라떼", true),
+      menu(10L, "아메리카노", true),
+      menu(20L, "녹차", false),
+      menu(null, "임시 메뉴", true)));
+
+  @Test
+  void findLooksUpByIdRegardlessOfInputOrder() {
+    assertThat(catalog.find(10L).name()).isEqualTo("아메리카노");
+    assertThat(catalog.find(30L).name()).isEqualTo("카페라떼");
+    assertThat(catalog.find(20L).name()).isEqualTo("녹차");
+  }
+
+  @Test
+  void findReturnsNullForUnknownId() {
+    assertThat(catalog.find(15L)).isNull();
+    assertThat(catalog.find(0L)).isNull();
+    assertThat(catalog.find(99L)).isNull();
+  }
+
+  @Test
+  void findActiveSkipsInactiveMenus() {
+    assertThat(catalog.findActive(20L)).isNull();
+    assertThat(catalog.findActive(10L)).isNotNull();
+  }
+
+  @Test
+  void menusWithoutIdAreDroppedAndEntriesAreSortedById() {
+    assertThat(catalog.size()).isEqualTo(3);
+    assertThat(catalog.entries()).extracting(MenuCatalog.Entry::id).containsExactly(10L, 20L, 30L);
+    assertThat(catalog.activeEntries()).extracting(MenuCatalog.Entry::id).containsExactly(10L, 30L);
+  }
+
+  @Test
+  void emptyCatalogHasNoEntries() {
+    assertThat(MenuCatalog.empty().isEmpty()).isTrue();
+    assertThat(MenuCatalog.empty().find(1L)).isNull();
+  }
+
+  private static Menu menu(Long id, String name, boolean active) {
+    return Menu.builder()
+        .id(id)
+        .name(name)
+        .temperature("hot")
+        .price(4500)
+        .category("커피")
+        .isActive(active)
+        .isPopular(false)
+        .build();
+  }
+}
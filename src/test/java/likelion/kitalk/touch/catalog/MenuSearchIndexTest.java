@@ -0,0 +1,99 @@
+package likelion.kitalk.touch.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import likelion.kitalk.touch.entity.Menu;
+import org.junit.jupiter.api.Test;
+
+class MenuSearchIndexTest {
+
+  private final MenuSearchIndex index = MenuCatalog.of(1L, "fp", List.of(
+      menu(1L, "아메리카노", "hot", true),
+      menu(2L, "아메리카노", "ice", true),
+      menu(3L, "카페라떼", "hot", true),
+      menu(4L, "바닐라 라떼", "ice", true),
+      menu(5L, "핫초코", "hot", true),
+      menu(6L, "녹차", "hot", false))).getSearchIndex();
+
+  @Test
+  void exactNameReturnsAllTemperatureVariants() {
+    MenuSearchIndex.Result result = index.search("아메리카노", 10);
+
+    assertThat(result.temperature()).isNull();
+    assertThat(result.menus()).extracting(MenuCatalog.Entry::id).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void temperatureKeywordIsStrippedAndSelectsVariant() {
+    MenuSearchIndex.Result result = index.search("아이스 아메리카노", 10);
+
+    assertThat(result.keyword()).isEqualTo("아메리카노");
+    assertThat(result.temperature()).isEqualTo("ice");
+    assertThat(result.menus()).extracting(MenuCatalog.Entry::id).containsExactly(2L);
+  }
+
+  @Test
+  void menuNameContainingTemperatureWordIsNotStripped() {
+    MenuSearchIndex.Result result = index.search("핫초코", 10);
+
+    assertThat(result.keyword()).isEqualTo("핫초코");
+    assertThat(result.temperature()).isNull();
+    assertThat(result.menus()).extracting(MenuCatalog.Entry::id).containsExactly(5L);
+  }
+
+  @Test
+  void partialJamoInputMatchesByPrefix() {
+    assertThat(index.search("아멜", 10).menus())
+        .extracting(MenuCatalog.Entry::name)
+        .containsOnly("아메리카노");
+  }
+
+  @Test
+  void chosungInputMatchesByInitialConsonants() {
+    assertThat(index.search("ㅋㅍㄹ", 10).menus())
+        .extracting(MenuCatalog.Entry::id)
+        .containsExactly(3L);
+  }
+
+  @Test
+  void containsMatchesAreOrderedByShorterName() {
+    assertThat(index.search("라떼", 10).menus())
+        .extracting(MenuCatalog.Entry::id)
+        .containsExactly(3L, 4L);
+  }
+
+  @Test
+  void typoFallsBackToJamoSimilarity() {
+    assertThat(index.search("아매리카노", 10).menus())
+        .extracting(MenuCatalog.Entry::name)
+        .containsOnly("아메리카노");
+  }
+
+  @Test
+  void inactiveMenusAreNotIndexed() {
+    assertThat(index.search("녹차", 10).menus()).isEmpty();
+  }
+
+  @Test
+  void limitCapsNumberOfMenus() {
+    assertThat(index.search("아메리카노", 1).menus()).hasSize(1);
+  }
+
+  @Test
+  void blankQueryReturnsNothing() {
+    assertThat(index.search("  ", 10).menus()).isEmpty();
+  }
+
+  private static Menu menu(Long id, String name, String temperature, boolean active) {
+    return Menu.builder()
+        .id(id)
+        .name(name)
+        .temperature(temperature)
+        .price(4500)
+        .category("커피")
+        .isActive(active)
+        .isPopular(false)
+        .build();
+  }
+}